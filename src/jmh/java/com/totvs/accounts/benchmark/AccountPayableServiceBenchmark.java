@@ -0,0 +1,100 @@
+package com.totvs.accounts.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.totvs.accounts.application.pagination.KeysetCursor;
+import com.totvs.accounts.application.service.AccountPayableService;
+import com.totvs.accounts.domain.entity.AccountsPayable;
+import com.totvs.accounts.domain.repository.AccountsPayableDailyTotalRepository;
+import com.totvs.accounts.domain.repository.AccountsPayableRepository;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AccountPayableServiceBenchmark {
+
+	private static final int CHUNK_SIZE = 1000;
+
+	private final LocalDate startDate = LocalDate.of(2024, 1, 1);
+
+	private AccountPayableService accountPayableService;
+
+	private AccountsPayable account;
+
+	private List<AccountsPayable> chunk;
+
+	private String cursor;
+
+	@Setup
+	public void setUp() {
+		account = account(1L, "Conta de teste", new BigDecimal("150.75"));
+		chunk = new ArrayList<>(CHUNK_SIZE);
+		for (int i = 0; i < CHUNK_SIZE; i++) {
+			chunk.add(account(null, "Conta de teste " + i, BigDecimal.valueOf(100 + i, 2)));
+		}
+		cursor = new KeysetCursor(account.getDueDate(), account.getId()).encode();
+		accountPayableService = new AccountPayableService(inMemoryRepository(), unusedDailyTotalRepository());
+	}
+
+	@Benchmark
+	public List<AccountsPayable> saveChunk() {
+		return accountPayableService.save(chunk);
+	}
+
+	@Benchmark
+	public AccountsPayable validateAndSave() {
+		return accountPayableService.save(account);
+	}
+
+	@Benchmark
+	public Object decodeCursor() {
+		return KeysetCursor.toScrollPosition(cursor);
+	}
+
+	private AccountsPayable account(Long id, String description, BigDecimal amount) {
+		AccountsPayable accountsPayable = new AccountsPayable();
+		accountsPayable.setId(id);
+		accountsPayable.setDescription(description);
+		accountsPayable.setAmount(amount);
+		accountsPayable.setDueDate(startDate);
+		accountsPayable.setStatus("PENDENTE");
+		return accountsPayable;
+	}
+
+	private AccountsPayableRepository inMemoryRepository() {
+		return (AccountsPayableRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { AccountsPayableRepository.class }, (proxy, method, args) -> switch (method.getName()) {
+				case "save", "saveAll" -> args[0];
+				case "findById" -> Optional.of(account);
+				case "findKeyHashesIn" -> List.of();
+				default -> throw new UnsupportedOperationException(method.getName());
+				});
+	}
+
+	private AccountsPayableDailyTotalRepository unusedDailyTotalRepository() {
+		return (AccountsPayableDailyTotalRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { AccountsPayableDailyTotalRepository.class }, (proxy, method, args) -> {
+					throw new UnsupportedOperationException(method.getName());
+				});
+	}
+}
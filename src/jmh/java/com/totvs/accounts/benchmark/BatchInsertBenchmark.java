@@ -0,0 +1,227 @@
+package com.totvs.accounts.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Function;
+
+import javax.sql.DataSource;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.naming.PhysicalNamingStrategyStandardImpl;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import com.totvs.accounts.domain.entity.AccountsPayable;
+import com.totvs.accounts.domain.repository.AccountsPayableRepository;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+/**
+ * Compara a taxa de inserção de contas pelo {@code saveAll} do repositório JPA com IDENTITY, que obriga o Hibernate a
+ * inserir linha a linha, e com a sequence de alocação em blocos usada por {@link AccountsPayable}, com as mesmas
+ * propriedades de batching da aplicação ({@code hibernate.jdbc.batch_size}, {@code order_inserts} e
+ * {@code reWriteBatchedInserts}). As duas gravam em cópias de {@code conta} criadas e removidas pelo próprio
+ * benchmark. Executar contra um PostgreSQL de testes:
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=com.totvs.accounts.benchmark.BatchInsertBenchmark \
+ *     -Dbenchmark.jvmArgs="-Dbenchmark.url=jdbc:postgresql://localhost:5432/accountpayble -Dbenchmark.rows=100000"
+ * </pre>
+ */
+public class BatchInsertBenchmark {
+
+	private static final int CHUNK_SIZE = 1000;
+	private static final int BATCH_SIZE = 50;
+	private static final String IDENTITY_TABLE = "conta_bench_identity";
+	private static final String SEQUENCE_TABLE = "conta_bench_sequence";
+	private static final String SEQUENCE = "conta_bench_seq";
+
+	public static void main(String[] args) throws SQLException {
+		String url = System.getProperty("benchmark.url", "jdbc:postgresql://localhost:5432/accountpayble");
+		int rows = Integer.getInteger("benchmark.rows", 100_000);
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+				url + separator(url) + "reWriteBatchedInserts=true", System.getProperty("benchmark.user", "postgres"),
+				System.getProperty("benchmark.password", "111111"));
+
+		createScratchTables(dataSource);
+		LocalContainerEntityManagerFactoryBean factoryBean = entityManagerFactory(dataSource);
+		try {
+			EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+			report("IDENTITY, uma instrução por linha", rows, insert(entityManagerFactory, rows,
+					IdentityAccountsPayableRepository.class, BatchInsertBenchmark::identityAccount));
+			report("SEQUENCE pooled, lotes JDBC de " + BATCH_SIZE, rows, insert(entityManagerFactory, rows,
+					AccountsPayableRepository.class, BatchInsertBenchmark::account));
+		} finally {
+			factoryBean.destroy();
+			dropScratchTables(dataSource);
+		}
+	}
+
+	private static <T> long insert(EntityManagerFactory entityManagerFactory, int rows,
+			Class<? extends JpaRepository<T, Long>> repositoryType, Function<Integer, T> row) {
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		try {
+			JpaRepository<T, Long> repository = new JpaRepositoryFactory(entityManager).getRepository(repositoryType);
+			long start = System.nanoTime();
+			for (int first = 0; first < rows; first += CHUNK_SIZE) {
+				List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+				for (int i = first; i < Math.min(first + CHUNK_SIZE, rows); i++) {
+					chunk.add(row.apply(i));
+				}
+				entityManager.getTransaction().begin();
+				repository.saveAll(chunk);
+				entityManager.getTransaction().commit();
+				entityManager.clear();
+			}
+			return System.nanoTime() - start;
+		} finally {
+			entityManager.close();
+		}
+	}
+
+	private static AccountsPayable account(int i) {
+		return AccountsPayable.builder().amount(amount(i)).description("Conta " + i).dueDate(dueDate(i))
+				.status("PENDENTE").build();
+	}
+
+	private static IdentityAccountsPayable identityAccount(int i) {
+		IdentityAccountsPayable account = new IdentityAccountsPayable();
+		account.amount = amount(i);
+		account.description = "Conta " + i;
+		account.dueDate = dueDate(i);
+		account.status = "PENDENTE";
+		return account;
+	}
+
+	private static BigDecimal amount(int i) {
+		return BigDecimal.valueOf(i % 10_000 + 1, 2);
+	}
+
+	private static LocalDate dueDate(int i) {
+		return LocalDate.of(2025, 1, 1).plusDays(i % 365);
+	}
+
+	private static LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+		Properties properties = new Properties();
+		properties.put("hibernate.jdbc.batch_size", BATCH_SIZE);
+		properties.put("hibernate.order_inserts", true);
+		properties.put("hibernate.order_updates", true);
+		properties.put("hibernate.physical_naming_strategy", new ScratchTableNamingStrategy());
+
+		LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+		factoryBean.setDataSource(dataSource);
+		factoryBean.setPersistenceUnitName("batch-insert-benchmark");
+		factoryBean.setPackagesToScan(AccountsPayable.class.getPackageName());
+		factoryBean.setPersistenceUnitPostProcessors(
+				unit -> unit.addManagedClassName(IdentityAccountsPayable.class.getName()));
+		factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+		factoryBean.setJpaProperties(properties);
+		factoryBean.afterPropertiesSet();
+		return factoryBean;
+	}
+
+	// As cópias levam os defaults (versao) e os índices de conta, mas não os triggers de conta_total_diario.
+	private static void createScratchTables(DataSource dataSource) throws SQLException {
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE " + IDENTITY_TABLE + " (LIKE conta INCLUDING DEFAULTS INCLUDING INDEXES)");
+			statement.execute("ALTER TABLE " + IDENTITY_TABLE + " ALTER COLUMN id DROP DEFAULT");
+			statement.execute("ALTER TABLE " + IDENTITY_TABLE + " ALTER COLUMN id ADD GENERATED BY DEFAULT AS IDENTITY");
+			statement.execute("CREATE TABLE " + SEQUENCE_TABLE + " (LIKE conta INCLUDING DEFAULTS INCLUDING INDEXES)");
+			statement.execute("CREATE SEQUENCE " + SEQUENCE + " AS BIGINT INCREMENT BY " + BATCH_SIZE);
+			statement.execute("ALTER TABLE " + SEQUENCE_TABLE + " ALTER COLUMN id SET DEFAULT nextval('" + SEQUENCE
+					+ "')");
+		}
+	}
+
+	private static void dropScratchTables(DataSource dataSource) throws SQLException {
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			statement.execute("DROP TABLE IF EXISTS " + IDENTITY_TABLE);
+			statement.execute("DROP TABLE IF EXISTS " + SEQUENCE_TABLE);
+			statement.execute("DROP SEQUENCE IF EXISTS " + SEQUENCE);
+		}
+	}
+
+	private static void report(String scenario, int rows, long elapsedNanos) {
+		double seconds = elapsedNanos / 1_000_000_000d;
+		System.out.printf("%-45s %,d linhas em %.2f s -> %,.0f linhas/s%n", scenario, rows, seconds, rows / seconds);
+	}
+
+	private static String separator(String url) {
+		return url.contains("?") ? "&" : "?";
+	}
+
+	interface IdentityAccountsPayableRepository extends JpaRepository<IdentityAccountsPayable, Long> {
+	}
+
+	/**
+	 * Mesmas colunas de {@link AccountsPayable}, com o id gerado por IDENTITY como antes da troca pela sequence.
+	 */
+	@Entity
+	@Table(name = IDENTITY_TABLE)
+	static class IdentityAccountsPayable {
+
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		@Column(name = "valor", nullable = false)
+		private BigDecimal amount;
+
+		@Column(name = "descricao", nullable = false, length = 255)
+		private String description;
+
+		@Column(name = "data_vencimento", nullable = false)
+		private LocalDate dueDate;
+
+		@Column(name = "data_pagamento")
+		private LocalDate paymentDate;
+
+		@Column(name = "situacao", nullable = false, length = 50)
+		private String status;
+
+		@Version
+		@Column(name = "versao", nullable = false)
+		private Long version;
+
+		@Column(name = "chave_hash", length = 64)
+		private String keyHash;
+
+		@PrePersist
+		void updateKeyHash() {
+			keyHash = AccountsPayable.keyHashOf(description, dueDate, amount);
+		}
+	}
+
+	// Aponta o mapeamento de AccountsPayable para a cópia de conta e para a sequence do benchmark.
+	private static final class ScratchTableNamingStrategy extends PhysicalNamingStrategyStandardImpl {
+
+		@Override
+		public Identifier toPhysicalTableName(Identifier name, JdbcEnvironment jdbcEnvironment) {
+			return "conta".equals(name.getText()) ? Identifier.toIdentifier(SEQUENCE_TABLE) : name;
+		}
+
+		@Override
+		public Identifier toPhysicalSequenceName(Identifier name, JdbcEnvironment jdbcEnvironment) {
+			return "conta_seq".equals(name.getText()) ? Identifier.toIdentifier(SEQUENCE) : name;
+		}
+	}
+}
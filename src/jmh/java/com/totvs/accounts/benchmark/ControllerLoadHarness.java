@@ -0,0 +1,237 @@
+package com.totvs.accounts.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Gera carga mista de consultas e importações contra uma instância em execução e mede a vazão e a latência
+ * (p50/p99) de cada endpoint do {@code AccountsPayableController}. Para comparar os modos de execução, suba a
+ * aplicação com {@code SPRING_THREADS_VIRTUAL_ENABLED=false} e depois com {@code true} (Java 21) e rode o
+ * harness contra cada uma com os mesmos parâmetros. Com {@code -Dload.read-api=reactive} as consultas por ID e por
+ * página usam a API R2DBC em {@code /reactive/accountspayable} em vez do controller bloqueante:
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile
+ * java -Dload.url=http://localhost:8080 -Dload.label=virtual -Dload.readers=200 -Dload.importers=4 \
+ *     -cp target/test-classes com.totvs.accounts.benchmark.ControllerLoadHarness
+ * </pre>
+ */
+public class ControllerLoadHarness {
+
+	private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+	private static final Pattern VALUE = Pattern.compile("\"value\":([0-9.Ee+-]+)");
+	private static final String BOUNDARY = "accounts-load-harness";
+
+	private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(10)).build();
+	private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+	private final String url;
+	private final String authorization;
+	private final String readPath;
+	// As contas são deduplicadas por descrição + vencimento + valor; cada execução e cada upload usam descrições novas.
+	private final String run = Long.toString(System.currentTimeMillis(), 36);
+	private final AtomicLong uploads = new AtomicLong();
+
+	private ControllerLoadHarness(String url, String apiKey, boolean reactive) {
+		this.url = url;
+		this.authorization = "ApiKey " + apiKey;
+		this.readPath = reactive ? "/reactive/accountspayable" : "/accountspayable";
+	}
+
+	public static void main(String[] args) throws Exception {
+		String url = System.getProperty("load.url", "http://localhost:8080");
+		String label = System.getProperty("load.label", "");
+		int readers = Integer.getInteger("load.readers", 200);
+		int importers = Integer.getInteger("load.importers", 4);
+		int importRows = Integer.getInteger("load.import-rows", 20_000);
+		int seed = Integer.getInteger("load.seed", 1000);
+		Duration warmup = Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 10));
+		Duration duration = Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 60));
+
+		ControllerLoadHarness harness = new ControllerLoadHarness(url, System.getProperty("load.api-key", "123456789"),
+				"reactive".equalsIgnoreCase(System.getProperty("load.read-api", "blocking")));
+		List<Long> ids = harness.seed(seed);
+
+		long measureFrom = System.nanoTime() + warmup.toNanos();
+		long deadline = measureFrom + duration.toNanos();
+		ExecutorService workers = Executors.newFixedThreadPool(readers + importers);
+		for (int i = 0; i < readers; i++) {
+			workers.execute(() -> harness.read(ids, measureFrom, deadline));
+		}
+		for (int i = 0; i < importers; i++) {
+			workers.execute(() -> harness.upload(importRows, measureFrom, deadline));
+		}
+		workers.shutdown();
+		workers.awaitTermination(warmup.plus(duration).toMinutes() + 5, TimeUnit.MINUTES);
+
+		harness.report(label, readers, importers, importRows, duration);
+	}
+
+	private List<Long> seed(int count) throws IOException, InterruptedException {
+		StringBuilder body = new StringBuilder("[");
+		for (int i = 0; i < count; i++) {
+			body.append(i == 0 ? "" : ",").append("{\"amount\":").append(10 + i % 500)
+					.append(".00,\"description\":\"Carga ").append(run).append('-').append(i).append("\",\"dueDate\":\"")
+					.append(LocalDate.of(2025, 1, 1).plusDays(i % 365)).append("\",\"status\":\"PENDENTE\"}");
+		}
+		HttpResponse<String> response = client.send(request("/accountspayable/batch")
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(body.append(']').toString())).build(),
+				HttpResponse.BodyHandlers.ofString());
+		if (response.statusCode() != 200) {
+			throw new IllegalStateException("Falha ao criar as contas de carga: HTTP " + response.statusCode());
+		}
+		List<Long> ids = new ArrayList<>(count);
+		Matcher matcher = ID.matcher(response.body());
+		while (matcher.find()) {
+			ids.add(Long.valueOf(matcher.group(1)));
+		}
+		return ids;
+	}
+
+	private void read(List<Long> ids, long measureFrom, long deadline) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		while (System.nanoTime() < deadline) {
+			int operation = random.nextInt(10);
+			if (operation < 5) {
+				execute("GET " + readPath + "/{id}",
+						request(readPath + "/" + ids.get(random.nextInt(ids.size()))).GET().build(), measureFrom);
+			} else if (operation < 8) {
+				execute("GET " + readPath + "?size=50", request(readPath + "?size=50&dueDate="
+						+ LocalDate.of(2025, 1, 1).plusDays(random.nextInt(365))).GET().build(), measureFrom);
+			} else {
+				execute("GET /accountspayable/total-paid",
+						request("/accountspayable/total-paid?startDate=2025-01-01&endDate=2025-12-31").GET().build(),
+						measureFrom);
+			}
+		}
+	}
+
+	private void upload(int importRows, long measureFrom, long deadline) {
+		byte[] head = ("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"file\"; filename=\"carga.csv\"\r\n"
+				+ "Content-Type: text/csv\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+		byte[] tail = ("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8);
+		while (System.nanoTime() < deadline) {
+			byte[] csv = csv(importRows, run + "-" + uploads.incrementAndGet());
+			execute("POST /accountspayable/upload?mode=stream",
+					request("/accountspayable/upload?mode=stream")
+							.header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+							.POST(HttpRequest.BodyPublishers.ofByteArrays(List.of(head, csv, tail))).build(),
+					measureFrom);
+		}
+	}
+
+	private void execute(String endpoint, HttpRequest request, long measureFrom) {
+		long start = System.nanoTime();
+		boolean ok;
+		try {
+			ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() / 100 == 2;
+		} catch (IOException e) {
+			ok = false;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+		if (start >= measureFrom) {
+			samples.computeIfAbsent(endpoint, key -> new Samples()).add(System.nanoTime() - start, ok);
+		}
+	}
+
+	private HttpRequest.Builder request(String path) {
+		return HttpRequest.newBuilder(URI.create(url + path)).timeout(Duration.ofMinutes(5))
+				.header("Authorization", authorization);
+	}
+
+	private void report(String label, int readers, int importers, int importRows, Duration duration) {
+		double seconds = duration.toMillis() / 1000.0;
+		System.out.printf("%s: %d leitores, %d importadores (%d linhas por arquivo), %.0f s%n", label, readers,
+				importers, importRows, seconds);
+		System.out.printf("%-42s %10s %8s %10s %10s %10s %10s%n", "endpoint", "requests", "erros", "req/s", "p50 ms",
+				"p99 ms", "max ms");
+		new TreeMap<>(samples).forEach((endpoint, endpointSamples) -> {
+			long[] latencies = endpointSamples.sorted();
+			System.out.printf("%-42s %10d %8d %10.1f %10.1f %10.1f %10.1f%n", endpoint, latencies.length,
+					endpointSamples.errors.get(), latencies.length / seconds, percentile(latencies, 0.50),
+					percentile(latencies, 0.99), percentile(latencies, 1.0));
+		});
+		Samples uploads = samples.get("POST /accountspayable/upload?mode=stream");
+		if (uploads != null) {
+			System.out.printf("linhas importadas/s: %.0f%n", uploads.sorted().length * (double) importRows / seconds);
+		}
+		System.out.printf("threads de plataforma no servidor (pico): %s%n", metric("jvm.threads.peak"));
+	}
+
+	private String metric(String name) {
+		try {
+			HttpResponse<String> response = client.send(request("/actuator/metrics/" + name).GET().build(),
+					HttpResponse.BodyHandlers.ofString());
+			Matcher matcher = VALUE.matcher(response.body());
+			return matcher.find() ? String.valueOf(Math.round(Double.parseDouble(matcher.group(1)))) : "n/d";
+		} catch (IOException e) {
+			return "n/d";
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return "n/d";
+		}
+	}
+
+	private static double percentile(long[] sortedNanos, double percentile) {
+		if (sortedNanos.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+		return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+	}
+
+	private static byte[] csv(int rows, String batch) {
+		StringBuilder csv = new StringBuilder("amount,description,duedate,status\n");
+		for (int i = 0; i < rows; i++) {
+			csv.append(10 + i % 500).append(".00,Importação ").append(batch).append('-').append(i).append(',')
+					.append(LocalDate.of(2025, 1, 1).plusDays(i % 365)).append(",PENDENTE\n");
+		}
+		return csv.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static final class Samples {
+
+		private final AtomicLong errors = new AtomicLong();
+		private long[] latencies = new long[1024];
+		private int size;
+
+		synchronized void add(long latencyNanos, boolean ok) {
+			if (!ok) {
+				errors.incrementAndGet();
+			}
+			if (size == latencies.length) {
+				latencies = Arrays.copyOf(latencies, size * 2);
+			}
+			latencies[size++] = latencyNanos;
+		}
+
+		synchronized long[] sorted() {
+			long[] sorted = Arrays.copyOf(latencies, size);
+			Arrays.sort(sorted);
+			return sorted;
+		}
+	}
+
+}
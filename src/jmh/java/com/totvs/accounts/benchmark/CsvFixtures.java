@@ -0,0 +1,33 @@
+package com.totvs.accounts.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.springframework.mock.web.MockMultipartFile;
+
+final class CsvFixtures {
+
+	static final String HEADER = "amount,description,duedate,status,paymentdate\n";
+
+	private static final LocalDate FIRST_DUE_DATE = LocalDate.of(2024, 1, 1);
+
+	private CsvFixtures() {
+	}
+
+	static byte[] generate(int rows) {
+		StringBuilder csv = new StringBuilder(HEADER.length() + rows * 64).append(HEADER);
+		for (int i = 0; i < rows; i++) {
+			LocalDate dueDate = FIRST_DUE_DATE.plusDays(i % 730);
+			boolean paid = i % 3 == 0;
+			csv.append(100 + i % 9000).append('.').append(i % 100 < 10 ? "0" : "").append(i % 100).append(',')
+					.append("Conta de teste ").append(i).append(',').append(dueDate).append(',')
+					.append(paid ? "PAGO" : "PENDENTE").append(',').append(paid ? dueDate.plusDays(5) : "")
+					.append('\n');
+		}
+		return csv.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	static MockMultipartFile file(byte[] content) {
+		return new MockMultipartFile("file", "contas.csv", "text/csv", content);
+	}
+}
@@ -0,0 +1,50 @@
+package com.totvs.accounts.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.totvs.accounts.application.service.CsvParserService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class CsvParserBenchmark {
+
+	@Param({ "10000", "1000000" })
+	private int rows;
+
+	private final CsvParserService csvParserService = new CsvParserService();
+
+	private MockMultipartFile file;
+
+	@Setup
+	public void setUp() {
+		file = CsvFixtures.file(CsvFixtures.generate(rows));
+	}
+
+	@Benchmark
+	public long parseStreaming(Blackhole blackhole) {
+		return csvParserService.parseCsv(file, blackhole::consume);
+	}
+
+	@Benchmark
+	public int parseToList() {
+		return csvParserService.parseCsv(file).size();
+	}
+}
@@ -0,0 +1,75 @@
+package com.totvs.accounts.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.totvs.accounts.application.service.CsvParserService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class CsvParserParallelBenchmark {
+
+	@Param({ "1000000" })
+	private int rows;
+
+	@Param({ "1", "2", "4", "8" })
+	private int parallelism;
+
+	private final CsvParserService csvParserService = new CsvParserService();
+
+	private Path file;
+
+	private ForkJoinPool pool;
+
+	@Setup
+	public void setUp() throws IOException {
+		file = Files.createTempFile("contas-", ".csv");
+		Files.write(file, CsvFixtures.generate(rows));
+		pool = new ForkJoinPool(parallelism);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		pool.shutdown();
+		Files.deleteIfExists(file);
+	}
+
+	@Benchmark
+	public long reader(Blackhole blackhole) throws IOException {
+		try (InputStream inputStream = Files.newInputStream(file)) {
+			return csvParserService.parseCsv(inputStream, blackhole::consume);
+		}
+	}
+
+	@Benchmark
+	public long mapped(Blackhole blackhole) {
+		return csvParserService.parseMappedCsv(file, blackhole::consume);
+	}
+
+	@Benchmark
+	public long parallel(Blackhole blackhole) {
+		return csvParserService.parseMappedCsv(file, blackhole::consume, pool, parallelism);
+	}
+}
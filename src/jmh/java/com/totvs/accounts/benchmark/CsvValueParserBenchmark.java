@@ -0,0 +1,98 @@
+package com.totvs.accounts.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.totvs.accounts.application.service.CsvValueParser;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(CsvValueParserBenchmark.VALUES)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class CsvValueParserBenchmark {
+
+	static final int VALUES = 1024;
+
+	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+	private final String[] amounts = new String[VALUES];
+
+	private final String[] dates = new String[VALUES];
+
+	private final String[] invalidDates = new String[VALUES];
+
+	@Setup
+	public void setUp() {
+		LocalDate firstDate = LocalDate.of(2024, 1, 1);
+		for (int i = 0; i < VALUES; i++) {
+			amounts[i] = (100 + i * 7) + "." + (i % 90 + 10);
+			dates[i] = firstDate.plusDays(i).toString();
+			invalidDates[i] = "2024-13-" + (i % 20 + 10);
+		}
+	}
+
+	@Benchmark
+	public void amountBigDecimalConstructor(Blackhole blackhole) {
+		for (String amount : amounts) {
+			blackhole.consume(new BigDecimal(amount));
+		}
+	}
+
+	@Benchmark
+	public void amountFastPath(Blackhole blackhole) {
+		for (String amount : amounts) {
+			blackhole.consume(CsvValueParser.parseAmount(amount));
+		}
+	}
+
+	@Benchmark
+	public void dateFormatter(Blackhole blackhole) {
+		for (String date : dates) {
+			blackhole.consume(LocalDate.parse(date, DATE_FORMATTER));
+		}
+	}
+
+	@Benchmark
+	public void dateFastPath(Blackhole blackhole) {
+		for (String date : dates) {
+			blackhole.consume(CsvValueParser.parseDate(date));
+		}
+	}
+
+	@Benchmark
+	public void invalidDateFormatter(Blackhole blackhole) {
+		for (String date : invalidDates) {
+			try {
+				blackhole.consume(LocalDate.parse(date, DATE_FORMATTER));
+			} catch (DateTimeParseException e) {
+				blackhole.consume(e);
+			}
+		}
+	}
+
+	@Benchmark
+	public void invalidDateFastPath(Blackhole blackhole) {
+		for (String date : invalidDates) {
+			blackhole.consume(CsvValueParser.parseDate(date));
+		}
+	}
+}
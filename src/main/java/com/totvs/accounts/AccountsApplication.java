@@ -2,8 +2,11 @@ package com.totvs.accounts;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+// O acesso R2DBC é configurado em ReactiveAccountsPayableReader; a autoconfiguração criaria um segundo
+// gerenciador de transações e tornaria ambíguo o @Transactional do JPA
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class AccountsApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,11 @@
+package com.totvs.accounts.application.importjob;
+
+/**
+ * Ponto de retomada de uma importação: posição e número do último registro do CSV cujo bloco já foi gravado, com os
+ * totais acumulados até ele.
+ */
+public record ImportCheckpoint(long characterOffset, long recordNumber, long rowsAccepted, long rowsRejected,
+		long rowsDuplicated) {
+
+	public static final ImportCheckpoint START = new ImportCheckpoint(0, 0, 0, 0, 0);
+}
@@ -0,0 +1,89 @@
+package com.totvs.accounts.application.importjob;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.totvs.accounts.application.service.ImportEngine;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+@Getter
+public class ImportJob {
+
+	private final UUID id = UUID.randomUUID();
+	private final String fileName;
+	private final ImportEngine engine;
+	private final Instant createdAt = Instant.now();
+	private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+	private volatile Instant startedAt;
+	private volatile Instant finishedAt;
+	private volatile String error;
+	@Getter(AccessLevel.NONE)
+	private final AtomicLong rowsProcessed = new AtomicLong();
+	@Getter(AccessLevel.NONE)
+	private final AtomicLong rowsFailed = new AtomicLong();
+	@Getter(AccessLevel.NONE)
+	private final AtomicLong rowsDuplicated = new AtomicLong();
+
+	public ImportJob(String fileName, ImportEngine engine) {
+		this.fileName = fileName;
+		this.engine = engine;
+	}
+
+	public void start() {
+		startedAt = Instant.now();
+		status = ImportJobStatus.RUNNING;
+	}
+
+	public void complete() {
+		finishedAt = Instant.now();
+		status = ImportJobStatus.COMPLETED;
+	}
+
+	public void fail(String error) {
+		this.error = error;
+		finishedAt = Instant.now();
+		status = ImportJobStatus.FAILED;
+	}
+
+	public void addProcessed(long rows) {
+		rowsProcessed.addAndGet(rows);
+	}
+
+	public void addFailed(long rows) {
+		rowsFailed.addAndGet(rows);
+	}
+
+	public void addDuplicated(long rows) {
+		rowsDuplicated.addAndGet(rows);
+	}
+
+	public long getRowsProcessed() {
+		return rowsProcessed.get();
+	}
+
+	public long getRowsFailed() {
+		return rowsFailed.get();
+	}
+
+	public long getRowsDuplicated() {
+		return rowsDuplicated.get();
+	}
+
+	public boolean isFinished() {
+		return status == ImportJobStatus.COMPLETED || status == ImportJobStatus.FAILED;
+	}
+
+	public double getRowsPerSecond() {
+		Instant start = startedAt;
+		if (start == null) {
+			return 0;
+		}
+		Instant end = finishedAt != null ? finishedAt : Instant.now();
+		long millis = Math.max(1, Duration.between(start, end).toMillis());
+		return getRowsProcessed() * 1000.0 / millis;
+	}
+}
@@ -0,0 +1,42 @@
+package com.totvs.accounts.application.importjob;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.totvs.accounts.application.service.ImportEngine;
+import com.totvs.accounts.infrastructure.config.ImportProperties;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ImportJobRegistry {
+
+	private final ImportProperties importProperties;
+	private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+	public ImportJob create(String fileName, ImportEngine engine) {
+		pruneFinished();
+		ImportJob job = new ImportJob(fileName, engine);
+		jobs.put(job.getId(), job);
+		return job;
+	}
+
+	public Optional<ImportJob> find(UUID id) {
+		return Optional.ofNullable(jobs.get(id));
+	}
+
+	public void remove(UUID id) {
+		jobs.remove(id);
+	}
+
+	private void pruneFinished() {
+		Instant limit = Instant.now().minus(importProperties.getJobRetention());
+		jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(limit));
+	}
+}
@@ -0,0 +1,5 @@
+package com.totvs.accounts.application.importjob;
+
+public enum ImportJobStatus {
+	QUEUED, RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,47 @@
+package com.totvs.accounts.application.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import com.totvs.accounts.domain.projection.AccountsPayableView;
+
+public record KeysetCursor(LocalDate dueDate, Long id) {
+
+	public static final Sort SORT = Sort.by("dueDate", "id");
+
+	private static final String SEPARATOR = "|";
+
+	public static KeysetCursor of(AccountsPayableView accountsPayable) {
+		return new KeysetCursor(accountsPayable.getDueDate(), accountsPayable.getId());
+	}
+
+	public static ScrollPosition toScrollPosition(String token) {
+		if (token == null || token.isBlank()) {
+			return ScrollPosition.keyset();
+		}
+		KeysetCursor cursor = decode(token);
+		return ScrollPosition.forward(Map.of("dueDate", cursor.dueDate(), "id", cursor.id()));
+	}
+
+	public static KeysetCursor decode(String token) {
+		try {
+			String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int separator = value.indexOf(SEPARATOR);
+			return new KeysetCursor(LocalDate.parse(value.substring(0, separator)),
+					Long.valueOf(value.substring(separator + 1)));
+		} catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+			throw new IllegalArgumentException("Cursor de paginação inválido: " + token, e);
+		}
+	}
+
+	public String encode() {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((dueDate + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+	}
+}
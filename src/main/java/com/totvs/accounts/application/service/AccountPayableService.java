@@ -1,47 +1,123 @@
 package com.totvs.accounts.application.service;
 
+import static com.totvs.accounts.infrastructure.config.CachingConfig.ACCOUNTS_PAYABLE_CACHE;
+
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.totvs.accounts.application.pagination.KeysetCursor;
 import com.totvs.accounts.domain.entity.AccountsPayable;
+import com.totvs.accounts.domain.projection.AccountsPayableDashboardRow;
+import com.totvs.accounts.domain.projection.AccountsPayableTotals;
+import com.totvs.accounts.domain.projection.AccountsPayableView;
+import com.totvs.accounts.domain.repository.AccountsPayableDailyTotalRepository;
 import com.totvs.accounts.domain.repository.AccountsPayableRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
+@CacheConfig(cacheNames = ACCOUNTS_PAYABLE_CACHE)
+@Timed(value = "accounts.service", histogram = true)
 public class AccountPayableService {
 
+    private static final int MAX_WINDOW_SIZE = 1000;
+    private static final int BULK_STATUS_BATCH_SIZE = 1000;
+    private static final int KEY_LOOKUP_BATCH_SIZE = 1000;
+    private static final LocalDate MIN_DUE_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate MAX_DUE_DATE = LocalDate.of(9999, 12, 31);
+    // Limites das colunas valor DECIMAL(10,2), descricao VARCHAR(255) e situacao VARCHAR(50)
+    private static final BigDecimal MAX_AMOUNT = new BigDecimal("99999999.99");
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+    private static final int MAX_STATUS_LENGTH = 50;
+
     private final AccountsPayableRepository accountsPayableRepository;
+    private final AccountsPayableDailyTotalRepository accountsPayableDailyTotalRepository;
 
+    @Transactional
+    @CachePut(key = "#result.id")
     public AccountsPayable save(AccountsPayable accountsPayable) {
         validateAccountsPayable(accountsPayable);
         return accountsPayableRepository.save(accountsPayable);
     }
 
+    @Transactional
+    @CacheEvict(allEntries = true, condition = "#accountsPayable.?[id != null].size() > 0")
     public List<AccountsPayable> save(List<AccountsPayable> accountsPayable) {
         accountsPayable.forEach(this::validateAccountsPayable);
-        return accountsPayableRepository.saveAll(accountsPayable);
+        return accountsPayableRepository.saveAll(withoutDuplicates(accountsPayable));
     }
 
+    /**
+     * Descarta as contas novas cuja chave natural (descrição + vencimento + valor) se repete na própria lista ou já
+     * existe no banco, mantendo a primeira ocorrência. Contas com id seguem sempre para gravação.
+     */
+    List<AccountsPayable> withoutDuplicates(List<AccountsPayable> accountsPayable) {
+        Set<String> keyHashes = new HashSet<>();
+        List<AccountsPayable> unique = new ArrayList<>(accountsPayable.size());
+        for (AccountsPayable account : accountsPayable) {
+            if (account.getId() == null) {
+                account.setKeyHash(account.computeKeyHash());
+            }
+            if (account.getId() != null || keyHashes.add(account.getKeyHash())) {
+                unique.add(account);
+            }
+        }
+        Set<String> existing = new HashSet<>();
+        List<String> pending = new ArrayList<>(keyHashes);
+        for (int from = 0; from < pending.size(); from += KEY_LOOKUP_BATCH_SIZE) {
+            existing.addAll(accountsPayableRepository
+                    .findKeyHashesIn(pending.subList(from, Math.min(from + KEY_LOOKUP_BATCH_SIZE, pending.size()))));
+        }
+        if (existing.isEmpty()) {
+            return unique;
+        }
+        return unique.stream().filter(account -> account.getId() != null || !existing.contains(account.getKeyHash()))
+                .toList();
+    }
+
+    @Transactional
+    @CachePut(key = "#id")
     public AccountsPayable update(Long id, AccountsPayable updatedAccountsPayable) {
         AccountsPayable existingAccountsPayable = accountsPayableRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Conta não encontrada"));
 
         validateAccountsPayable(updatedAccountsPayable);
+        if (updatedAccountsPayable.getVersion() != null
+                && !updatedAccountsPayable.getVersion().equals(existingAccountsPayable.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(AccountsPayable.class, id);
+        }
         existingAccountsPayable.setDueDate(updatedAccountsPayable.getDueDate());
         existingAccountsPayable.setPaymentDate(updatedAccountsPayable.getPaymentDate());
         existingAccountsPayable.setAmount(updatedAccountsPayable.getAmount());
         existingAccountsPayable.setDescription(updatedAccountsPayable.getDescription());
         existingAccountsPayable.setStatus(updatedAccountsPayable.getStatus());
 
-        return accountsPayableRepository.save(existingAccountsPayable);
+        // Grava antes do @CachePut: uma chave natural repetida falha aqui, e não no commit
+        return accountsPayableRepository.saveAndFlush(existingAccountsPayable);
     }
 
+    @Transactional
+    @CachePut(key = "#id")
     public AccountsPayable updateAccountsPayableStatus(Long id, String status) {
         AccountsPayable existingAccountsPayable = accountsPayableRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Conta não encontrada"));
@@ -50,40 +126,150 @@ public class AccountPayableService {
         return accountsPayableRepository.save(existingAccountsPayable);
     }
 
-    public Page<AccountsPayable> getAccountsPayable(LocalDate dueDate, String description, Pageable pageable) {
-        if (dueDate != null && description != null) {
+    @Transactional
+    @CachePut(key = "#id")
+    public AccountsPayable transitionAccountsPayableStatus(Long id, String expectedStatus, String status) {
+        validateStatus(status);
+        if (expectedStatus == null || expectedStatus.isBlank()) {
+            throw new IllegalArgumentException("Informe a situação atual esperada da conta");
+        }
+        if (accountsPayableRepository.updateStatusByIdAndStatus(id, expectedStatus, status) == 0) {
+            AccountsPayable current = accountsPayableRepository.findById(id)
+                    .orElseThrow(() -> new EntityNotFoundException("Conta não encontrada"));
+            throw new OptimisticLockingFailureException(
+                    "A situação da conta (" + id + ") é " + current.getStatus() + ", não " + expectedStatus);
+        }
+        return accountsPayableRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Conta não encontrada"));
+    }
+
+    @Transactional
+    @CacheEvict(allEntries = true)
+    public int updateAccountsPayableStatus(List<Long> ids, String status, LocalDate paymentDate) {
+        validateStatus(status);
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um id de conta");
+        }
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        int updated = 0;
+        for (int from = 0; from < distinctIds.size(); from += BULK_STATUS_BATCH_SIZE) {
+            List<Long> batch = distinctIds.subList(from, Math.min(from + BULK_STATUS_BATCH_SIZE, distinctIds.size()));
+            updated += accountsPayableRepository.updateStatusByIdIn(batch, status, paymentDate);
+        }
+        return updated;
+    }
+
+    @Transactional
+    @CacheEvict(allEntries = true)
+    public int updateAccountsPayableStatus(LocalDate startDate, LocalDate endDate, String currentStatus, String status,
+            LocalDate paymentDate) {
+        validateStatus(status);
+        boolean hasCurrentStatus = currentStatus != null && !currentStatus.isBlank();
+        if (startDate == null && endDate == null && !hasCurrentStatus) {
+            throw new IllegalArgumentException("Informe os ids ou um filtro por vencimento ou situação");
+        }
+        LocalDate from = startDate != null ? startDate : MIN_DUE_DATE;
+        LocalDate to = endDate != null ? endDate : MAX_DUE_DATE;
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Data inicial não pode ser maior que a data final");
+        }
+        return accountsPayableRepository.updateStatusByDueDateBetween(from, to, hasCurrentStatus ? currentStatus : null,
+                status, paymentDate);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<AccountsPayableView> getAccountsPayable(LocalDate dueDate, String description, Pageable pageable) {
+        boolean hasDescription = description != null && !description.isBlank();
+        if (dueDate != null && hasDescription) {
             return accountsPayableRepository.findAccountsPayableByDueDateAndDescriptionContaining(dueDate, description,
                     pageable);
         } else if (dueDate != null) {
             return accountsPayableRepository.findAccountsPayableByDueDate(dueDate, pageable);
-        } else if (description != null) {
+        } else if (hasDescription) {
             return accountsPayableRepository.findAccountsPayableByDescriptionContaining(description, pageable);
         }
-        return accountsPayableRepository.findAll(pageable);
+        return accountsPayableRepository.findAccountsPayableBy(pageable);
     }
 
+    @Transactional(readOnly = true)
+    public Window<AccountsPayableView> getAccountsPayableWindow(LocalDate dueDate, String description, String cursor,
+            int size) {
+        if (size < 1 || size > MAX_WINDOW_SIZE) {
+            throw new IllegalArgumentException("O tamanho da página deve estar entre 1 e " + MAX_WINDOW_SIZE);
+        }
+        ScrollPosition position = KeysetCursor.toScrollPosition(cursor);
+        Limit limit = Limit.of(size);
+        boolean hasDescription = description != null && !description.isBlank();
+        if (dueDate != null && hasDescription) {
+            return accountsPayableRepository.findAccountsPayableByDueDateAndDescriptionContaining(dueDate, description,
+                    position, limit, KeysetCursor.SORT);
+        } else if (dueDate != null) {
+            return accountsPayableRepository.findAccountsPayableByDueDate(dueDate, position, limit, KeysetCursor.SORT);
+        } else if (hasDescription) {
+            return accountsPayableRepository.findAccountsPayableByDescriptionContaining(description, position, limit,
+                    KeysetCursor.SORT);
+        }
+        return accountsPayableRepository.findAccountsPayableBy(position, limit, KeysetCursor.SORT);
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(key = "#id")
     public AccountsPayable getAccountsPayableById(Long id) throws EntityNotFoundException {
         return accountsPayableRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Conta de id (" + id + ") não foi encontrada!"));
     }
 
-    public BigDecimal getAccountsPayableTotalPaid(LocalDate startDate, LocalDate endDate) {
+    @Transactional(readOnly = true)
+    public AccountsPayableTotals getAccountsPayableTotalPaid(LocalDate startDate, LocalDate endDate) {
         if (startDate.isAfter(endDate)) {
             throw new IllegalArgumentException("Data inicial não pode ser maior que a data final");
         }
-        List<AccountsPayable> filteredAccountsPayables = accountsPayableRepository.findByDueDateBetween(startDate,
-                endDate);
-        return filteredAccountsPayables.stream().map(AccountsPayable::getAmount).reduce(BigDecimal.ZERO,
-                BigDecimal::add);
+        return accountsPayableDailyTotalRepository.sumTotalByDueDateBetween(startDate, endDate);
     }
 
-    private void validateAccountsPayable(AccountsPayable accountsPayable) {
+    @Transactional(readOnly = true)
+    public List<AccountsPayableDashboardRow> getAccountsPayableDashboard(LocalDate startDate, LocalDate endDate,
+            LocalDate referenceDate) {
+        LocalDate from = startDate != null ? startDate : MIN_DUE_DATE;
+        LocalDate to = endDate != null ? endDate : MAX_DUE_DATE;
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Data inicial não pode ser maior que a data final");
+        }
+        return accountsPayableRepository.summarizeByStatusMonthAndAging(from, to, referenceDate);
+    }
+
+    private void validateStatus(String status) {
+        if (status == null || status.isBlank()) {
+            throw new IllegalArgumentException("O status da conta não pode estar vazio");
+        }
+        if (codePoints(status) > MAX_STATUS_LENGTH) {
+            throw new IllegalArgumentException(
+                    "A situação da conta deve ter no máximo " + MAX_STATUS_LENGTH + " caracteres");
+        }
+    }
+
+    public void validateAccountsPayable(AccountsPayable accountsPayable) {
         if (accountsPayable.getAmount() == null || accountsPayable.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("O valor da conta deve ser maior que zero");
         }
+        if (accountsPayable.getAmount().setScale(2, RoundingMode.HALF_UP).compareTo(MAX_AMOUNT) > 0) {
+            throw new IllegalArgumentException("O valor da conta deve ser no máximo " + MAX_AMOUNT);
+        }
         if (accountsPayable.getDescription() == null || accountsPayable.getDescription().isBlank()) {
             throw new IllegalArgumentException("A descrição da conta não pode estar vazia");
         }
+        if (codePoints(accountsPayable.getDescription()) > MAX_DESCRIPTION_LENGTH) {
+            throw new IllegalArgumentException(
+                    "A descrição da conta deve ter no máximo " + MAX_DESCRIPTION_LENGTH + " caracteres");
+        }
+        if (accountsPayable.getStatus() != null && codePoints(accountsPayable.getStatus()) > MAX_STATUS_LENGTH) {
+            throw new IllegalArgumentException(
+                    "A situação da conta deve ter no máximo " + MAX_STATUS_LENGTH + " caracteres");
+        }
+    }
+
+    private static int codePoints(String value) {
+        return value.codePointCount(0, value.length());
     }
 
 }
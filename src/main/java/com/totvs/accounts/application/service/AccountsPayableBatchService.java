@@ -0,0 +1,178 @@
+package com.totvs.accounts.application.service;
+
+import static com.totvs.accounts.infrastructure.config.CachingConfig.ACCOUNTS_PAYABLE_CACHE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.totvs.accounts.application.factory.AccountsPayableFactory;
+import com.totvs.accounts.domain.entity.AccountsPayable;
+import com.totvs.accounts.domain.repository.AccountsPayableRepository;
+import com.totvs.accounts.infrastructure.config.ImportProperties;
+import com.totvs.accounts.presentation.dto.AccountsPayableBatchItemResponseDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableBatchItemStatus;
+import com.totvs.accounts.presentation.dto.AccountsPayableRequestDto;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccountsPayableBatchService {
+
+	private final AccountPayableService accountPayableService;
+	private final AccountsPayableRepository accountsPayableRepository;
+	private final EntityManager entityManager;
+	private final TransactionTemplate transactionTemplate;
+	private final Validator validator;
+	private final ImportProperties importProperties;
+
+	@CacheEvict(cacheNames = ACCOUNTS_PAYABLE_CACHE, allEntries = true,
+			condition = "#requests != null and #requests.?[#this != null and id != null].size() > 0")
+	public List<AccountsPayableBatchItemResponseDto> saveAll(List<AccountsPayableRequestDto> requests) {
+		if (requests == null || requests.isEmpty()) {
+			throw new IllegalArgumentException("O lote de contas está vazio");
+		}
+		if (requests.size() > importProperties.getBatchMaxItems()) {
+			throw new IllegalArgumentException(
+					"O lote deve conter no máximo " + importProperties.getBatchMaxItems() + " contas");
+		}
+		int chunkSize = importProperties.getChunkSize();
+		AccountsPayableBatchItemResponseDto[] results = new AccountsPayableBatchItemResponseDto[requests.size()];
+		List<Integer> chunk = new ArrayList<>(chunkSize);
+		for (int index = 0; index < requests.size(); index++) {
+			String error = validate(requests.get(index));
+			if (error != null) {
+				results[index] = AccountsPayableBatchItemResponseDto.failed(index, idOf(requests.get(index)), error);
+				continue;
+			}
+			chunk.add(index);
+			if (chunk.size() >= chunkSize) {
+				write(requests, chunk, results);
+				chunk = new ArrayList<>(chunkSize);
+			}
+		}
+		write(requests, chunk, results);
+		return Arrays.asList(results);
+	}
+
+	private String validate(AccountsPayableRequestDto request) {
+		if (request == null) {
+			return "A conta não pode ser nula";
+		}
+		Set<ConstraintViolation<AccountsPayableRequestDto>> violations = validator.validate(request);
+		if (violations.isEmpty()) {
+			return null;
+		}
+		return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(" "));
+	}
+
+	private void write(List<AccountsPayableRequestDto> requests, List<Integer> chunk,
+			AccountsPayableBatchItemResponseDto[] results) {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		try {
+			transactionTemplate.execute(status -> persist(requests, chunk)).forEach(r -> results[r.getIndex()] = r);
+		} catch (RuntimeException e) {
+			log.warn("Falha ao gravar bloco de {} contas, gravando individualmente: {}", chunk.size(),
+					NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+			entityManager.clear();
+			for (int index : chunk) {
+				try {
+					transactionTemplate.execute(status -> persist(requests, List.of(index)))
+							.forEach(r -> results[r.getIndex()] = r);
+				} catch (RuntimeException itemError) {
+					results[index] = AccountsPayableBatchItemResponseDto.failed(index, idOf(requests.get(index)),
+							errorOf(itemError));
+				} finally {
+					entityManager.clear();
+				}
+			}
+		} finally {
+			entityManager.clear();
+		}
+	}
+
+	private List<AccountsPayableBatchItemResponseDto> persist(List<AccountsPayableRequestDto> requests,
+			List<Integer> chunk) {
+		List<Long> ids = chunk.stream().map(index -> requests.get(index).getId()).filter(Objects::nonNull).toList();
+		Map<Long, AccountsPayable> existing = ids.isEmpty() ? Map.of()
+				: accountsPayableRepository.findAllById(ids).stream()
+						.collect(Collectors.toMap(AccountsPayable::getId, Function.identity()));
+
+		List<AccountsPayableBatchItemResponseDto> results = new ArrayList<>(chunk.size());
+		List<Integer> written = new ArrayList<>(chunk.size());
+		List<AccountsPayable> accountsPayable = new ArrayList<>(chunk.size());
+		for (int index : chunk) {
+			AccountsPayableRequestDto request = requests.get(index);
+			AccountsPayable account = AccountsPayableFactory.buildAccountsPayable(request);
+			try {
+				accountPayableService.validateAccountsPayable(account);
+			} catch (IllegalArgumentException e) {
+				results.add(AccountsPayableBatchItemResponseDto.failed(index, request.getId(), e.getMessage()));
+				continue;
+			}
+			if (request.getId() != null) {
+				AccountsPayable current = existing.get(request.getId());
+				if (current == null) {
+					results.add(AccountsPayableBatchItemResponseDto.failed(index, request.getId(),
+							"Conta de id (" + request.getId() + ") não foi encontrada!"));
+					continue;
+				}
+				if (request.getVersion() != null && !request.getVersion().equals(current.getVersion())) {
+					results.add(AccountsPayableBatchItemResponseDto.failed(index, request.getId(),
+							"A conta foi alterada por outra requisição (versão atual " + current.getVersion() + ")"));
+					continue;
+				}
+				current.setAmount(account.getAmount());
+				current.setDescription(account.getDescription());
+				current.setDueDate(account.getDueDate());
+				current.setPaymentDate(account.getPaymentDate());
+				current.setStatus(account.getStatus());
+				account = current;
+			}
+			written.add(index);
+			accountsPayable.add(account);
+		}
+		List<AccountsPayable> saved = accountsPayableRepository.saveAll(accountsPayable);
+		entityManager.flush();
+		for (int i = 0; i < written.size(); i++) {
+			int index = written.get(i);
+			results.add(new AccountsPayableBatchItemResponseDto(index, saved.get(i).getId(),
+					requests.get(index).getId() == null ? AccountsPayableBatchItemStatus.CREATED
+							: AccountsPayableBatchItemStatus.UPDATED,
+					null));
+		}
+		return results;
+	}
+
+	private String errorOf(RuntimeException e) {
+		String cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+		if (e instanceof DataIntegrityViolationException && cause != null && cause.contains("ux_conta_chave_hash")) {
+			return "Já existe uma conta com a mesma descrição, data de vencimento e valor.";
+		}
+		return "Erro ao gravar a conta: " + cause;
+	}
+
+	private Long idOf(AccountsPayableRequestDto request) {
+		return request == null ? null : request.getId();
+	}
+
+}
@@ -0,0 +1,58 @@
+package com.totvs.accounts.application.service;
+
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.totvs.accounts.domain.projection.AccountsPayableDailyTotalMismatch;
+import com.totvs.accounts.domain.repository.AccountsPayableDailyTotalRepository;
+import com.totvs.accounts.infrastructure.config.RollupProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountsPayableDailyTotalService {
+
+	private final AccountsPayableDailyTotalRepository accountsPayableDailyTotalRepository;
+	private final RollupProperties rollupProperties;
+
+	@Transactional(readOnly = true)
+	public List<AccountsPayableDailyTotalMismatch> checkConsistency() {
+		return accountsPayableDailyTotalRepository.findMismatches();
+	}
+
+	@Transactional
+	public List<AccountsPayableDailyTotalMismatch> rebuild() {
+		accountsPayableDailyTotalRepository.lockAccountsPayable();
+		List<AccountsPayableDailyTotalMismatch> mismatches = accountsPayableDailyTotalRepository.findMismatches();
+		if (!mismatches.isEmpty()) {
+			accountsPayableDailyTotalRepository.deleteAllTotals();
+			int rows = accountsPayableDailyTotalRepository.insertTotalsFromAccountsPayable();
+			log.warn("Totais diários reconstruídos: {} divergências corrigidas, {} linhas gravadas", mismatches.size(),
+					rows);
+		}
+		return mismatches;
+	}
+
+	@Transactional
+	@Scheduled(cron = "${accounts.rollup.check-cron:0 0 3 * * *}")
+	public void verifyConsistency() {
+		List<AccountsPayableDailyTotalMismatch> mismatches = checkConsistency();
+		if (mismatches.isEmpty()) {
+			log.info("Totais diários consistentes com a tabela de contas");
+			return;
+		}
+		mismatches.forEach(m -> log.warn("Total diário divergente em {} ({}): esperado {} / {}, registrado {} / {}",
+				m.getDueDate(), m.getStatus(), m.getExpectedTotal(), m.getExpectedCount(), m.getActualTotal(),
+				m.getActualCount()));
+		if (rollupProperties.isAutoRepair()) {
+			rebuild();
+		}
+	}
+
+}
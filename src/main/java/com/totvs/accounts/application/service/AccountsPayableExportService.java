@@ -0,0 +1,31 @@
+package com.totvs.accounts.application.service;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Service;
+
+import com.totvs.accounts.infrastructure.persistence.AccountsPayableExporter;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccountsPayableExportService {
+
+	private final AccountsPayableExporter accountsPayableExporter;
+
+	@Timed(value = "accounts.export", histogram = true)
+	public long export(LocalDate dueDate, String description, ExportFormat format, OutputStream outputStream) {
+		long start = System.nanoTime();
+		long rows = accountsPayableExporter.export(dueDate, description, format, outputStream);
+		log.info("Exportação ({}) concluída: {} contas em {} ms", format, rows,
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		return rows;
+	}
+
+}
@@ -0,0 +1,302 @@
+package com.totvs.accounts.application.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.totvs.accounts.application.importjob.ImportCheckpoint;
+import com.totvs.accounts.application.importjob.ImportJob;
+import com.totvs.accounts.application.importjob.ImportJobRegistry;
+import com.totvs.accounts.application.service.CsvParserService.CsvCursor;
+import com.totvs.accounts.domain.entity.AccountsPayable;
+import com.totvs.accounts.infrastructure.config.CsvParsePool;
+import com.totvs.accounts.infrastructure.config.ImportProperties;
+import com.totvs.accounts.infrastructure.config.ImportTaskExecutor;
+import com.totvs.accounts.infrastructure.persistence.AccountsPayableCopyWriter;
+import com.totvs.accounts.presentation.dto.AccountsPayableImportSummaryResponseDto;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccountsPayableImportService {
+
+	private final AccountPayableService accountPayableService;
+	private final EntityManager entityManager;
+	private final ImportProperties importProperties;
+	private final AccountsPayableCopyWriter accountsPayableCopyWriter;
+	private final MeterRegistry meterRegistry;
+	private final ImportJobRegistry importJobRegistry;
+	private final ImportTaskExecutor importTaskExecutor;
+	private final CsvParsePool csvParsePool;
+	private final CsvParserService csvParserService = new CsvParserService();
+
+	@Timed(value = "accounts.import", histogram = true)
+	public AccountsPayableImportSummaryResponseDto importCsv(MultipartFile file, ImportEngine engine) {
+		long start = System.nanoTime();
+		csvParserService.validateFile(file);
+		ImportJob job = new ImportJob(file.getOriginalFilename(), engine);
+		job.start();
+		ChunkWriter writer = new ChunkWriter(job);
+
+		long parseRejected;
+		try (InputStream inputStream = file.getInputStream()) {
+			parseRejected = csvParserService.parseCsv(inputStream, writer);
+		} catch (IOException e) {
+			throw new RuntimeException("Erro ao processar o arquivo: " + e.getMessage(), e);
+		}
+		finish(writer, parseRejected, file.getSize());
+
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		log.info("Importação do arquivo {} ({}) concluída: {} aceitas, {} rejeitadas, {} duplicadas em {} ms",
+				file.getOriginalFilename(), engine, job.getRowsProcessed(), job.getRowsFailed(),
+				job.getRowsDuplicated(), elapsedMillis);
+		return new AccountsPayableImportSummaryResponseDto(job.getRowsProcessed(), job.getRowsFailed(),
+				job.getRowsDuplicated(), elapsedMillis);
+	}
+
+	public ImportJob submitCsv(MultipartFile file, ImportEngine engine) {
+		csvParserService.validateFile(file);
+		Path spooledFile = spool(file);
+		ImportJob job = importJobRegistry.create(file.getOriginalFilename(), engine);
+		try {
+			importTaskExecutor.execute(() -> runJob(job, spooledFile));
+		} catch (TaskRejectedException e) {
+			importJobRegistry.remove(job.getId());
+			deleteSpooledFile(spooledFile);
+			throw e;
+		}
+		log.info("Importação {} do arquivo {} ({}) enfileirada", job.getId(), job.getFileName(), engine);
+		return job;
+	}
+
+	/**
+	 * Importa um arquivo já gravado em disco a partir de {@code from}, informando um novo ponto de retomada a cada bloco
+	 * gravado e ao final. A leitura é sempre sequencial para que o ponto de retomada acompanhe a ordem do arquivo, e
+	 * sempre passa por um {@link java.io.Reader}, mesmo com {@code accounts.import.mapped-parse}, porque o ponto de
+	 * retomada é uma posição de caractere.
+	 */
+	public void importFile(ImportJob job, Path file, ImportCheckpoint from, Consumer<ImportCheckpoint> onCheckpoint)
+			throws IOException {
+		job.addProcessed(from.rowsAccepted());
+		job.addFailed(from.rowsRejected());
+		job.addDuplicated(from.rowsDuplicated());
+		CsvCursor cursor = new CsvCursor(from.characterOffset(), from.recordNumber());
+		ChunkWriter writer = new ChunkWriter(job, cursor, onCheckpoint);
+		long parseRejected = csvParserService.parseCsv(file, cursor, writer);
+		finish(writer, parseRejected, Files.size(file));
+		onCheckpoint.accept(new ImportCheckpoint(cursor.getCharacterOffset(), cursor.getRecordNumber(),
+				job.getRowsProcessed(), job.getRowsFailed(), job.getRowsDuplicated()));
+	}
+
+	public ImportJob getImportJob(UUID id) {
+		return importJobRegistry.find(id)
+				.orElseThrow(() -> new EntityNotFoundException("Importação de id (" + id + ") não foi encontrada!"));
+	}
+
+	private void runJob(ImportJob job, Path spooledFile) {
+		job.start();
+		try {
+			ChunkWriter writer = new ChunkWriter(job);
+			long parseRejected = parse(spooledFile, writer);
+			finish(writer, parseRejected, Files.size(spooledFile));
+			job.complete();
+			log.info("Importação {} concluída: {} aceitas, {} rejeitadas, {} duplicadas ({} linhas/s)", job.getId(),
+					job.getRowsProcessed(), job.getRowsFailed(), job.getRowsDuplicated(),
+					Math.round(job.getRowsPerSecond()));
+		} catch (Exception e) {
+			log.error("Importação {} falhou: {}", job.getId(), e.getMessage(), e);
+			job.fail(e.getMessage());
+		} finally {
+			deleteSpooledFile(spooledFile);
+		}
+	}
+
+	private long parse(Path spooledFile, ChunkWriter writer) throws IOException {
+		if (csvParsePool.isEnabled()) {
+			return csvParserService.parseMappedCsv(spooledFile, writer, csvParsePool.executor(),
+					csvParsePool.getParallelism());
+		}
+		if (importProperties.isMappedParse()) {
+			return csvParserService.parseMappedCsv(spooledFile, writer);
+		}
+		try (InputStream inputStream = Files.newInputStream(spooledFile)) {
+			return csvParserService.parseCsv(inputStream, writer);
+		}
+	}
+
+	private void finish(ChunkWriter writer, long parseRejected, long fileSize) {
+		writer.flush();
+		writer.reject(parseRejected);
+		DistributionSummary.builder("accounts.import.upload.size").description("Tamanho dos arquivos CSV importados")
+				.baseUnit("bytes").tag("engine", writer.job.getEngine().name()).publishPercentileHistogram()
+				.register(meterRegistry).record(fileSize);
+	}
+
+	private Path spool(MultipartFile file) {
+		try {
+			Files.createDirectories(importProperties.getSpoolDir());
+			Path spooledFile = Files.createTempFile(importProperties.getSpoolDir(), "import-", ".csv");
+			file.transferTo(spooledFile);
+			return spooledFile;
+		} catch (IOException e) {
+			throw new RuntimeException("Erro ao gravar o arquivo para importação: " + e.getMessage(), e);
+		}
+	}
+
+	private void deleteSpooledFile(Path spooledFile) {
+		try {
+			Files.deleteIfExists(spooledFile);
+		} catch (IOException e) {
+			log.warn("Não foi possível remover o arquivo temporário {}: {}", spooledFile, e.getMessage());
+		}
+	}
+
+	private Counter rowsCounter(ImportEngine engine, String result) {
+		return Counter.builder("accounts.import.rows").description("Linhas de CSV processadas na importação")
+				.tag("engine", engine.name()).tag("result", result).register(meterRegistry);
+	}
+
+	private class ChunkWriter implements Consumer<AccountsPayable> {
+
+		private final ImportJob job;
+		private final int chunkSize;
+		private final boolean copy;
+		private final Counter acceptedRows;
+		private final Counter rejectedRows;
+		private final Counter duplicatedRows;
+		private final CsvCursor cursor;
+		private final Consumer<ImportCheckpoint> onCheckpoint;
+		private List<AccountsPayable> chunk;
+		private Set<String> chunkKeyHashes;
+
+		ChunkWriter(ImportJob job) {
+			this(job, null, null);
+		}
+
+		ChunkWriter(ImportJob job, CsvCursor cursor, Consumer<ImportCheckpoint> onCheckpoint) {
+			this.job = job;
+			this.cursor = cursor;
+			this.onCheckpoint = onCheckpoint;
+			this.copy = job.getEngine() == ImportEngine.COPY;
+			this.chunkSize = copy ? importProperties.getCopyChunkSize() : importProperties.getChunkSize();
+			this.acceptedRows = rowsCounter(job.getEngine(), "accepted");
+			this.rejectedRows = rowsCounter(job.getEngine(), "rejected");
+			this.duplicatedRows = rowsCounter(job.getEngine(), "duplicated");
+			this.chunk = new ArrayList<>(chunkSize);
+			this.chunkKeyHashes = new HashSet<>();
+		}
+
+		@Override
+		public void accept(AccountsPayable accountsPayable) {
+			try {
+				accountPayableService.validateAccountsPayable(accountsPayable);
+			} catch (IllegalArgumentException e) {
+				reject(1);
+				log.warn("Conta descartada na importação: {}", e.getMessage());
+				return;
+			}
+			String keyHash = accountsPayable.computeKeyHash();
+			if (!chunkKeyHashes.add(keyHash)) {
+				duplicate(1);
+				return;
+			}
+			accountsPayable.setKeyHash(keyHash);
+			chunk.add(accountsPayable);
+			if (chunk.size() >= chunkSize) {
+				flush();
+			}
+		}
+
+		void reject(long rows) {
+			job.addFailed(rows);
+			rejectedRows.increment(rows);
+		}
+
+		void duplicate(long rows) {
+			job.addDuplicated(rows);
+			duplicatedRows.increment(rows);
+		}
+
+		void flush() {
+			if (chunk.isEmpty()) {
+				return;
+			}
+			long inserted;
+			if (copy) {
+				inserted = accountsPayableCopyWriter.copy(chunk);
+			} else {
+				inserted = save(chunk);
+			}
+			job.addProcessed(inserted);
+			acceptedRows.increment(inserted);
+			duplicate(chunk.size() - inserted);
+			chunk = new ArrayList<>(chunkSize);
+			chunkKeyHashes = new HashSet<>();
+			if (onCheckpoint != null) {
+				// As linhas rejeitadas pelo parser só entram no job ao final; até lá ficam no cursor
+				onCheckpoint.accept(new ImportCheckpoint(cursor.getCharacterOffset(), cursor.getRecordNumber(),
+						job.getRowsProcessed(), job.getRowsFailed() + cursor.getRejected(), job.getRowsDuplicated()));
+			}
+		}
+
+		// Outra gravação pode inserir a mesma chave entre a consulta de duplicadas e o commit; nesse caso o bloco é
+		// regravado conta a conta e as que violarem o índice único contam como duplicadas
+		private long save(List<AccountsPayable> accountsPayable) {
+			try {
+				return accountPayableService.save(accountsPayable).size();
+			} catch (DataIntegrityViolationException e) {
+				if (!isDuplicateKey(e)) {
+					throw e;
+				}
+				log.warn("Bloco de {} contas conflitou com outra gravação, gravando individualmente",
+						accountsPayable.size());
+			} finally {
+				entityManager.clear();
+			}
+			long inserted = 0;
+			for (AccountsPayable account : accountsPayable) {
+				// O rollback não desfaz o id e a versão atribuídos pelo persist
+				account.setId(null);
+				account.setVersion(null);
+				try {
+					inserted += accountPayableService.save(List.of(account)).size();
+				} catch (DataIntegrityViolationException e) {
+					if (!isDuplicateKey(e)) {
+						throw e;
+					}
+				} finally {
+					entityManager.clear();
+				}
+			}
+			return inserted;
+		}
+	}
+
+	private static boolean isDuplicateKey(DataIntegrityViolationException e) {
+		String cause = e.getMostSpecificCause().getMessage();
+		return cause != null && cause.contains("ux_conta_chave_hash");
+	}
+
+}
@@ -0,0 +1,373 @@
+package com.totvs.accounts.application.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import com.totvs.accounts.application.importjob.ImportCheckpoint;
+import com.totvs.accounts.application.importjob.ImportJob;
+import com.totvs.accounts.domain.entity.AccountsPayableUpload;
+import com.totvs.accounts.domain.entity.AccountsPayableUploadStatus;
+import com.totvs.accounts.domain.exception.InvalidUploadStateException;
+import com.totvs.accounts.domain.repository.AccountsPayableUploadRepository;
+import com.totvs.accounts.infrastructure.config.ImportProperties;
+import com.totvs.accounts.infrastructure.config.ImportTaskExecutor;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccountsPayableUploadService {
+
+	private static final String PART_PREFIX = "part-";
+	private static final String ASSEMBLED_FILE = "upload.csv";
+	private static final String ASSEMBLING_FILE = "upload.csv.tmp";
+	private static final int MAX_ERROR_LENGTH = 1000;
+
+	private final AccountsPayableUploadRepository accountsPayableUploadRepository;
+	private final AccountsPayableImportService accountsPayableImportService;
+	private final ImportProperties importProperties;
+	private final ImportTaskExecutor importTaskExecutor;
+
+	public AccountsPayableUpload initiate(String fileName, ImportEngine engine) {
+		if (fileName == null || fileName.isBlank()) {
+			throw new IllegalArgumentException("Informe o nome do arquivo");
+		}
+		if (!fileName.toLowerCase().endsWith(".csv")) {
+			throw new IllegalArgumentException("Formato de arquivo inválido. Por favor, envie um arquivo CSV.");
+		}
+		AccountsPayableUpload upload = accountsPayableUploadRepository
+				.save(new AccountsPayableUpload(fileName, engine.name()));
+		try {
+			Files.createDirectories(directory(upload.getId()));
+		} catch (IOException e) {
+			throw new RuntimeException("Erro ao preparar o diretório do upload: " + e.getMessage(), e);
+		}
+		log.info("Upload {} do arquivo {} ({}) iniciado", upload.getId(), fileName, engine);
+		return upload;
+	}
+
+	public AccountsPayableUpload getUpload(UUID id) {
+		return accountsPayableUploadRepository.findById(id)
+				.orElseThrow(() -> new EntityNotFoundException("Upload de id (" + id + ") não foi encontrado!"));
+	}
+
+	/**
+	 * Grava a parte {@code partNumber} do arquivo. A parte é escrita em um arquivo temporário e só depois renomeada,
+	 * então uma transferência interrompida não deixa uma parte incompleta; reenviar a mesma parte a substitui.
+	 */
+	public long storePart(UUID id, int partNumber, InputStream content) {
+		requireStatus(getUpload(id), AccountsPayableUploadStatus.RECEIVING);
+		if (partNumber < 1 || partNumber > importProperties.getUploadMaxParts()) {
+			throw new IllegalArgumentException(
+					"O número da parte deve estar entre 1 e " + importProperties.getUploadMaxParts());
+		}
+		long maxSize = importProperties.getUploadPartMaxSize().toBytes();
+		Path directory = directory(id);
+		Path temporary = null;
+		try {
+			temporary = Files.createTempFile(directory, "receiving-", ".tmp");
+			long size = 0;
+			byte[] buffer = new byte[64 * 1024];
+			try (OutputStream out = Files.newOutputStream(temporary)) {
+				int read;
+				while ((read = content.read(buffer)) != -1) {
+					size += read;
+					if (size > maxSize) {
+						throw new IllegalArgumentException("A parte excede o tamanho máximo de " + maxSize + " bytes");
+					}
+					out.write(buffer, 0, read);
+				}
+			}
+			if (size == 0) {
+				throw new IllegalArgumentException("A parte " + partNumber + " está vazia");
+			}
+			Files.move(temporary, part(id, partNumber), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+			temporary = null;
+			return size;
+		} catch (IOException e) {
+			throw new RuntimeException("Erro ao gravar a parte " + partNumber + ": " + e.getMessage(), e);
+		} finally {
+			if (temporary != null) {
+				deleteQuietly(temporary);
+			}
+		}
+	}
+
+	public List<Integer> getReceivedParts(UUID id) {
+		Path directory = directory(id);
+		if (!Files.isDirectory(directory)) {
+			return List.of();
+		}
+		List<Integer> parts = new ArrayList<>();
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PART_PREFIX + "[0-9]*")) {
+			for (Path file : files) {
+				parts.add(Integer.valueOf(file.getFileName().toString().substring(PART_PREFIX.length())));
+			}
+		} catch (IOException e) {
+			throw new RuntimeException("Erro ao listar as partes do upload: " + e.getMessage(), e);
+		}
+		Collections.sort(parts);
+		return parts;
+	}
+
+	/**
+	 * Junta as partes 1..{@code parts} no arquivo final e enfileira a importação. A passagem para IMPORTING é uma
+	 * atualização condicional no banco, então só uma chamada, nesta ou em outra instância, monta o arquivo.
+	 */
+	public AccountsPayableUpload complete(UUID id, int parts) {
+		AccountsPayableUpload upload = getUpload(id);
+		requireStatus(upload, AccountsPayableUploadStatus.RECEIVING);
+		if (parts < 1) {
+			throw new IllegalArgumentException("Informe a quantidade de partes do arquivo");
+		}
+		List<Integer> missing = new ArrayList<>();
+		long sizeBytes = 0;
+		for (int partNumber = 1; partNumber <= parts; partNumber++) {
+			try {
+				sizeBytes += Files.size(part(id, partNumber));
+			} catch (IOException e) {
+				missing.add(partNumber);
+			}
+		}
+		if (!missing.isEmpty()) {
+			throw new IllegalArgumentException("Partes não recebidas: " + missing);
+		}
+
+		Instant claimedAt = now();
+		if (accountsPayableUploadRepository.updateStatusIf(id, AccountsPayableUploadStatus.RECEIVING,
+				AccountsPayableUploadStatus.IMPORTING, sizeBytes, claimedAt) == 0) {
+			throw new InvalidUploadStateException("O upload " + id + " já foi concluído por outra requisição");
+		}
+		try {
+			assemble(id, parts);
+		} catch (RuntimeException e) {
+			accountsPayableUploadRepository.updateStatus(id, AccountsPayableUploadStatus.RECEIVING, null, now());
+			throw e;
+		}
+		for (int partNumber = 1; partNumber <= parts; partNumber++) {
+			deleteQuietly(part(id, partNumber));
+		}
+
+		upload.setStatus(AccountsPayableUploadStatus.IMPORTING);
+		upload.setSizeBytes(sizeBytes);
+		upload.setUpdatedAt(claimedAt);
+		log.info("Upload {} montado com {} partes ({} bytes)", id, parts, sizeBytes);
+		submit(upload, ImportCheckpoint.START, claimedAt);
+		return upload;
+	}
+
+	/**
+	 * Retoma uma importação que falhou, ou que foi interrompida, a partir do último bloco gravado. Uma importação em
+	 * IMPORTING só é considerada interrompida depois de {@code accounts.import.upload-stale-after} sem gravar um bloco.
+	 */
+	public AccountsPayableUpload resume(UUID id) {
+		AccountsPayableUpload upload = getUpload(id);
+		if (upload.getStatus() != AccountsPayableUploadStatus.FAILED
+				&& upload.getStatus() != AccountsPayableUploadStatus.IMPORTING) {
+			throw new InvalidUploadStateException("O upload " + id + " não pode ser retomado na situação " + upload.getStatus());
+		}
+		if (!Files.exists(directory(id).resolve(ASSEMBLED_FILE))) {
+			throw new InvalidUploadStateException("O arquivo do upload " + id + " não está mais disponível");
+		}
+		Instant claimedAt = now();
+		if (accountsPayableUploadRepository.updateStatusIfStopped(id, AccountsPayableUploadStatus.FAILED,
+				AccountsPayableUploadStatus.IMPORTING, staleBefore(claimedAt), claimedAt) == 0) {
+			throw new InvalidUploadStateException("O upload " + id + " está sendo importado");
+		}
+		upload.setStatus(AccountsPayableUploadStatus.IMPORTING);
+		upload.setError(null);
+		upload.setUpdatedAt(claimedAt);
+		log.info("Upload {} retomado a partir do registro {}", id, upload.getRecordNumber());
+		submit(upload, new ImportCheckpoint(upload.getCharacterOffset(), upload.getRecordNumber(),
+				upload.getRowsAccepted(), upload.getRowsRejected(), upload.getRowsDuplicated()), claimedAt);
+		return upload;
+	}
+
+	public void abort(UUID id) {
+		getUpload(id);
+		if (accountsPayableUploadRepository.deleteIfStopped(id, AccountsPayableUploadStatus.IMPORTING,
+				staleBefore(now())) == 0) {
+			throw new InvalidUploadStateException("O upload " + id + " está sendo importado");
+		}
+		deleteDirectory(id);
+		log.info("Upload {} descartado", id);
+	}
+
+	private void assemble(UUID id, int parts) {
+		// Montado com outro nome e renomeado ao final, para que uma retomada nunca leia um arquivo incompleto
+		Path temporary = directory(id).resolve(ASSEMBLING_FILE);
+		try {
+			try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					StandardOpenOption.TRUNCATE_EXISTING)) {
+				for (int partNumber = 1; partNumber <= parts; partNumber++) {
+					try (FileChannel in = FileChannel.open(part(id, partNumber), StandardOpenOption.READ)) {
+						long position = 0;
+						long size = in.size();
+						while (position < size) {
+							position += in.transferTo(position, size - position, out);
+						}
+					}
+				}
+			}
+			Files.move(temporary, directory(id).resolve(ASSEMBLED_FILE), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			deleteQuietly(temporary);
+			throw new RuntimeException("Erro ao montar o arquivo do upload: " + e.getMessage(), e);
+		}
+	}
+
+	private void submit(AccountsPayableUpload upload, ImportCheckpoint from, Instant claimedAt) {
+		try {
+			importTaskExecutor.execute(() -> runImport(upload, from, claimedAt));
+		} catch (TaskRejectedException e) {
+			accountsPayableUploadRepository.updateStatus(upload.getId(), AccountsPayableUploadStatus.FAILED,
+					"Limite de importações simultâneas atingido", now());
+			throw e;
+		}
+	}
+
+	private void runImport(AccountsPayableUpload upload, ImportCheckpoint from, Instant claimedAt) {
+		UUID id = upload.getId();
+		Claim claim = new Claim(id, claimedAt);
+		try {
+			claim.renew();
+		} catch (ClaimLostException e) {
+			log.warn("Upload {} foi retomado por outra requisição; importação enfileirada descartada", id);
+			return;
+		}
+		ImportJob job = new ImportJob(upload.getFileName(), ImportEngine.valueOf(upload.getEngine()));
+		job.start();
+		try {
+			accountsPayableImportService.importFile(job, directory(id).resolve(ASSEMBLED_FILE), from,
+					claim::checkpoint);
+			claim.finish(AccountsPayableUploadStatus.COMPLETED, null);
+			deleteDirectory(id);
+			log.info("Upload {} importado: {} aceitas, {} rejeitadas, {} duplicadas", id, job.getRowsProcessed(),
+					job.getRowsFailed(), job.getRowsDuplicated());
+		} catch (ClaimLostException e) {
+			log.warn("Upload {} foi retomado ou descartado por outra requisição; importação interrompida", id);
+		} catch (Exception e) {
+			log.error("Importação do upload {} falhou: {}", id, e.getMessage(), e);
+			String error = String.valueOf(e.getMessage());
+			try {
+				claim.finish(AccountsPayableUploadStatus.FAILED,
+						error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+			} catch (ClaimLostException lost) {
+				log.warn("Upload {} foi retomado ou descartado por outra requisição; falha não registrada", id);
+			}
+		}
+	}
+
+	// Truncado à precisão da coluna, para que o instante gravado possa ser comparado depois nas gravações da execução
+	private static Instant now() {
+		return Instant.now().truncatedTo(ChronoUnit.MICROS);
+	}
+
+	private Instant staleBefore(Instant now) {
+		return now.minus(importProperties.getUploadStaleAfter());
+	}
+
+	/**
+	 * Posse de uma execução sobre o upload. Cada gravação da execução só atualiza a linha se {@code atualizado_em}
+	 * ainda for o da sua gravação anterior; se outra requisição retomou ou descartou o upload nesse meio tempo, nada é
+	 * gravado e a execução é interrompida com {@link ClaimLostException}.
+	 */
+	private final class Claim {
+
+		private final UUID id;
+		private Instant claimedAt;
+
+		Claim(UUID id, Instant claimedAt) {
+			this.id = id;
+			this.claimedAt = claimedAt;
+		}
+
+		void renew() {
+			Instant updatedAt = now();
+			require(accountsPayableUploadRepository.renewClaim(id, claimedAt, updatedAt), updatedAt);
+		}
+
+		void checkpoint(ImportCheckpoint checkpoint) {
+			Instant updatedAt = now();
+			require(accountsPayableUploadRepository.updateCheckpoint(id, checkpoint.characterOffset(),
+					checkpoint.recordNumber(), checkpoint.rowsAccepted(), checkpoint.rowsRejected(),
+					checkpoint.rowsDuplicated(), claimedAt, updatedAt), updatedAt);
+		}
+
+		void finish(AccountsPayableUploadStatus status, String error) {
+			Instant updatedAt = now();
+			require(accountsPayableUploadRepository.updateStatusIfClaimed(id, status, error, claimedAt, updatedAt),
+					updatedAt);
+		}
+
+		private void require(int updated, Instant updatedAt) {
+			if (updated == 0) {
+				throw new ClaimLostException();
+			}
+			claimedAt = updatedAt;
+		}
+	}
+
+	private static final class ClaimLostException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+	}
+
+	private void requireStatus(AccountsPayableUpload upload, AccountsPayableUploadStatus status) {
+		if (upload.getStatus() != status) {
+			throw new InvalidUploadStateException(
+					"O upload " + upload.getId() + " está na situação " + upload.getStatus() + ", esperado " + status);
+		}
+	}
+
+	private Path directory(UUID id) {
+		return importProperties.getSpoolDir().resolve("uploads").resolve(id.toString());
+	}
+
+	private Path part(UUID id, int partNumber) {
+		return directory(id).resolve(PART_PREFIX + String.format("%05d", partNumber));
+	}
+
+	private void deleteDirectory(UUID id) {
+		Path directory = directory(id);
+		if (!Files.isDirectory(directory)) {
+			return;
+		}
+		try (Stream<Path> files = Files.list(directory)) {
+			files.forEach(this::deleteQuietly);
+		} catch (IOException e) {
+			log.warn("Não foi possível listar o diretório {}: {}", directory, e.getMessage());
+		}
+		deleteQuietly(directory);
+	}
+
+	private void deleteQuietly(Path path) {
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			log.warn("Não foi possível remover o arquivo temporário {}: {}", path, e.getMessage());
+		}
+	}
+}
@@ -2,16 +2,25 @@ package com.totvs.accounts.application.service;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
@@ -19,53 +28,309 @@ import org.apache.commons.csv.CSVRecord;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.totvs.accounts.domain.entity.AccountsPayable;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class CsvParserService {
 
-	private static final String DATE_PATTERN = "yyyy-MM-dd";
-	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_PATTERN);
 	private static final String[] REQUIRED_COLUMNS = { "amount", "description", "duedate", "status" };
+	private static final CSVFormat CSV_FORMAT = CSVFormat.DEFAULT.builder().setHeader().setIgnoreEmptyLines(true)
+			.setTrim(true).build();
+	private static final int PARALLEL_RANGE_SIZE = 1024 * 1024;
+	private static final int MAPPED_WINDOW_SIZE = 256 * 1024 * 1024;
 
-	public List<AccountsPayable> parseCsv(MultipartFile file) {
-		if (file == null || file.isEmpty()) {
-			throw new IllegalArgumentException("O arquivo está vazio.");
+	private record ParsedRange(List<AccountsPayable> accounts, int rejected) {
+	}
+
+	/**
+	 * Posição do registro lido por último. O parser a atualiza antes de entregar cada conta ao consumidor, que pode
+	 * gravá-la como ponto de retomada; uma nova leitura com o mesmo cursor continua a partir do registro seguinte.
+	 */
+	@Getter
+	public static final class CsvCursor {
+
+		private long characterOffset;
+		private long recordNumber;
+		private long rejected;
+
+		public CsvCursor(long characterOffset, long recordNumber) {
+			this.characterOffset = characterOffset;
+			this.recordNumber = recordNumber;
 		}
-		if (!isCsvFile(file)) {
-			throw new IllegalArgumentException("Formato de arquivo inválido. Por favor, envie um arquivo CSV.");
+	}
+
+	/**
+	 * Campos de um registro. Valores e datas são lidos por {@link #value(int)}, que pode devolver uma visão reutilizada
+	 * a cada chamada; {@link #text(int)} devolve uma cópia que pode ser guardada na conta.
+	 */
+	interface CsvFields {
+
+		int size();
+
+		CharSequence value(int index);
+
+		String text(int index);
+
+		long recordNumber();
+	}
+
+	private record CsvRecordFields(CSVRecord record) implements CsvFields {
+
+		@Override
+		public int size() {
+			return record.size();
+		}
+
+		@Override
+		public CharSequence value(int index) {
+			return record.get(index);
+		}
+
+		@Override
+		public String text(int index) {
+			return record.get(index);
+		}
+
+		@Override
+		public long recordNumber() {
+			return record.getRecordNumber();
+		}
+	}
+
+	private record CsvColumns(int amount, int description, int dueDate, int status, int paymentDate) {
+
+		int lastRequired() {
+			return Math.max(Math.max(amount, description), Math.max(dueDate, status));
 		}
+	}
 
+	public List<AccountsPayable> parseCsv(MultipartFile file) {
 		List<AccountsPayable> accountsList = new ArrayList<>();
+		parseCsv(file, accountsList::add);
+		return accountsList;
+	}
+
+	public long parseCsv(MultipartFile file, Consumer<AccountsPayable> consumer) {
+		validateFile(file);
+		try (InputStream inputStream = file.getInputStream()) {
+			return parseCsv(inputStream, consumer);
+		} catch (IOException e) {
+			throw new RuntimeException("Erro ao processar o arquivo: " + e.getMessage(), e);
+		}
+	}
 
-		CSVFormat csvFormat = CSVFormat.DEFAULT.builder().setHeader().setIgnoreEmptyLines(true).setTrim(true).build();
+	public long parseCsv(InputStream inputStream, Consumer<AccountsPayable> consumer) {
+		long rejected = 0;
 
-		try (BufferedReader reader = new BufferedReader(
-				new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8));
-				CSVParser csvParser = new CSVParser(reader, csvFormat)) {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+				CSVParser csvParser = new CSVParser(reader, CSV_FORMAT)) {
 
-			Map<String, String> headerMapping = new HashMap<>();
-			for (String header : csvParser.getHeaderMap().keySet()) {
-				headerMapping.put(header.toLowerCase(), header);
-			}
-			for (String requiredColumn : REQUIRED_COLUMNS) {
-				if (!headerMapping.containsKey(requiredColumn)) {
-					throw new IllegalArgumentException(
-							"O arquivo CSV deve conter as colunas: amount, description, duedate, status (e opcionalmente paymentdate).");
+			CsvColumns columns = resolveColumns(csvParser.getHeaderMap());
+			for (CSVRecord record : csvParser) {
+				AccountsPayable account = parseRecordOrNull(new CsvRecordFields(record), columns);
+				if (account == null) {
+					rejected++;
+					continue;
 				}
+				consumer.accept(account);
 			}
+		} catch (IOException e) {
+			throw new RuntimeException("Erro ao processar o arquivo: " + e.getMessage(), e);
+		}
+		return rejected;
+	}
+
+	public long parseCsv(Path file, CsvCursor cursor, Consumer<AccountsPayable> consumer) {
+		long resumeAfter = cursor.recordNumber;
+
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+				CSVParser csvParser = openAt(file, reader, cursor)) {
+
+			CsvColumns columns = resolveColumns(csvParser.getHeaderMap());
 			for (CSVRecord record : csvParser) {
-				try {
-					AccountsPayable account = parseRecord(record, headerMapping);
-					accountsList.add(account);
-				} catch (Exception e) {
-					log.warn("Erro ao processar a linha {}: {}", record.getRecordNumber(), e.getMessage());
+				if (record.getRecordNumber() <= resumeAfter) {
+					continue;
 				}
+				cursor.characterOffset = record.getCharacterPosition();
+				cursor.recordNumber = record.getRecordNumber();
+				AccountsPayable account = parseRecordOrNull(new CsvRecordFields(record), columns);
+				if (account == null) {
+					cursor.rejected++;
+					continue;
+				}
+				consumer.accept(account);
 			}
 		} catch (IOException e) {
 			throw new RuntimeException("Erro ao processar o arquivo: " + e.getMessage(), e);
 		}
-		return accountsList;
+		return cursor.rejected;
+	}
+
+	/**
+	 * Lê um arquivo em disco mapeado em memória, sem passar por um {@link java.io.Reader}: os separadores são
+	 * procurados nos bytes e só descrição e status são decodificados. Aceita os mesmos arquivos que
+	 * {@link #parseCsv(InputStream, Consumer)} e produz as mesmas contas e rejeições.
+	 */
+	public long parseMappedCsv(Path file, Consumer<AccountsPayable> consumer) {
+		return parseMappedCsv(file, consumer, MAPPED_WINDOW_SIZE);
+	}
+
+	long parseMappedCsv(Path file, Consumer<AccountsPayable> consumer, int windowSize) {
+		long rejected = 0;
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MappedCsvScanner scanner = new MappedCsvScanner(channel, windowSize);
+			CsvColumns columns = resolveColumns(readHeader(scanner));
+			while (scanner.nextRecord()) {
+				AccountsPayable account = parseRecordOrNull(scanner, columns);
+				if (account == null) {
+					rejected++;
+					continue;
+				}
+				consumer.accept(account);
+			}
+		} catch (IOException e) {
+			throw new RuntimeException("Erro ao processar o arquivo: " + e.getMessage(), e);
+		}
+		return rejected;
+	}
+
+	private Map<String, Integer> readHeader(MappedCsvScanner scanner) throws IOException {
+		Map<String, Integer> header = new HashMap<>();
+		if (scanner.nextRecord()) {
+			for (int i = 0; i < scanner.size(); i++) {
+				String name = scanner.text(i);
+				if (name.isEmpty()) {
+					throw new IllegalArgumentException("O cabeçalho do arquivo CSV possui uma coluna sem nome.");
+				}
+				header.put(name, i);
+			}
+		}
+		return header;
+	}
+
+	// Na retomada o cabeçalho é lido do início do arquivo e a leitura salta direto para o último registro gravado,
+	// sem analisar as linhas anteriores.
+	private CSVParser openAt(Path file, BufferedReader reader, CsvCursor cursor) throws IOException {
+		if (cursor.recordNumber == 0) {
+			return new CSVParser(reader, CSV_FORMAT);
+		}
+		String[] header;
+		try (CSVParser headerParser = new CSVParser(Files.newBufferedReader(file, StandardCharsets.UTF_8),
+				CSV_FORMAT)) {
+			header = headerParser.getHeaderNames().toArray(String[]::new);
+		}
+		long remaining = cursor.characterOffset;
+		while (remaining > 0) {
+			long skipped = reader.skip(remaining);
+			if (skipped <= 0) {
+				throw new IOException("O arquivo é menor que a posição de retomada " + cursor.characterOffset);
+			}
+			remaining -= skipped;
+		}
+		return new CSVParser(reader, CSV_FORMAT.builder().setHeader(header).build(), cursor.characterOffset,
+				cursor.recordNumber);
+	}
+
+	/**
+	 * Lê um arquivo em disco dividido em faixas alinhadas aos registros pelo {@link MappedCsvSplitter}. Cada faixa é
+	 * separada em campos e convertida em contas por uma tarefa do {@code executor}, com até duas faixas em andamento por
+	 * thread de {@code parallelism}; as contas são entregues ao consumidor na ordem do arquivo, na thread que chamou o método.
+	 * Produz as mesmas contas e rejeições de {@link #parseMappedCsv(Path, Consumer)}.
+	 */
+	public long parseMappedCsv(Path file, Consumer<AccountsPayable> consumer, Executor executor, int parallelism) {
+		return parseMappedCsv(file, consumer, executor, parallelism, PARALLEL_RANGE_SIZE, MAPPED_WINDOW_SIZE);
+	}
+
+	long parseMappedCsv(Path file, Consumer<AccountsPayable> consumer, Executor executor, int parallelism,
+			int rangeSize, int windowSize) {
+		long rejected = 0;
+		Deque<CompletableFuture<ParsedRange>> inFlight = new ArrayDeque<>();
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MappedCsvScanner headerScanner = new MappedCsvScanner(channel, windowSize);
+			CsvColumns columns = resolveColumns(readHeader(headerScanner));
+			MappedCsvSplitter splitter = new MappedCsvSplitter(channel, headerScanner.offset(),
+					headerScanner.recordNumber(), rangeSize, windowSize);
+			while (splitter.nextRange()) {
+				inFlight.add(submitRange(channel, splitter, columns, windowSize, executor));
+				if (inFlight.size() >= parallelism * 2) {
+					rejected += emit(inFlight.poll(), consumer);
+				}
+			}
+			while (!inFlight.isEmpty()) {
+				rejected += emit(inFlight.poll(), consumer);
+			}
+		} catch (IOException e) {
+			throw new RuntimeException("Erro ao processar o arquivo: " + e.getMessage(), e);
+		} finally {
+			inFlight.forEach(future -> future.cancel(false));
+		}
+		return rejected;
+	}
+
+	private CompletableFuture<ParsedRange> submitRange(FileChannel channel, MappedCsvSplitter splitter,
+			CsvColumns columns, int windowSize, Executor executor) {
+		long start = splitter.start();
+		long end = splitter.end();
+		long recordsBefore = splitter.recordsBefore();
+		return CompletableFuture.supplyAsync(() -> {
+			List<AccountsPayable> accounts = new ArrayList<>();
+			int rejected = 0;
+			try {
+				MappedCsvScanner scanner = new MappedCsvScanner(channel, windowSize, start, end, recordsBefore);
+				while (scanner.nextRecord()) {
+					AccountsPayable account = parseRecordOrNull(scanner, columns);
+					if (account == null) {
+						rejected++;
+					} else {
+						accounts.add(account);
+					}
+				}
+			} catch (IOException e) {
+				throw new RuntimeException("Erro ao processar o arquivo: " + e.getMessage(), e);
+			}
+			return new ParsedRange(accounts, rejected);
+		}, executor);
+	}
+
+	private long emit(CompletableFuture<ParsedRange> future, Consumer<AccountsPayable> consumer) {
+		ParsedRange parsedRange;
+		try {
+			parsedRange = future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+		parsedRange.accounts().forEach(consumer);
+		return parsedRange.rejected();
+	}
+
+	private CsvColumns resolveColumns(Map<String, Integer> headerMap) {
+		Map<String, Integer> columns = new HashMap<>();
+		for (Map.Entry<String, Integer> header : headerMap.entrySet()) {
+			columns.put(header.getKey().toLowerCase(), header.getValue());
+		}
+		for (String requiredColumn : REQUIRED_COLUMNS) {
+			if (!columns.containsKey(requiredColumn)) {
+				throw new IllegalArgumentException(
+						"O arquivo CSV deve conter as colunas: amount, description, duedate, status (e opcionalmente paymentdate).");
+			}
+		}
+		return new CsvColumns(columns.get("amount"), columns.get("description"), columns.get("duedate"),
+				columns.get("status"), columns.getOrDefault("paymentdate", -1));
+	}
+
+	public void validateFile(MultipartFile file) {
+		if (file == null || file.isEmpty()) {
+			throw new IllegalArgumentException("O arquivo está vazio.");
+		}
+		if (!isCsvFile(file)) {
+			throw new IllegalArgumentException("Formato de arquivo inválido. Por favor, envie um arquivo CSV.");
+		}
 	}
 
 	public boolean isCsvFile(MultipartFile file) {
@@ -79,40 +344,41 @@ public class CsvParserService {
 		return isCsvContentType || isCsvExtension;
 	}
 
-	private AccountsPayable parseRecord(CSVRecord record, Map<String, String> headerMapping) {
-		String amountStr = record.get(headerMapping.get("amount"));
-		BigDecimal amount = parseAmount(amountStr);
+	private AccountsPayable parseRecordOrNull(CsvFields record, CsvColumns columns) {
+		if (record.size() <= columns.lastRequired()) {
+			return reject(record, "A linha não possui todas as colunas obrigatórias");
+		}
+		CharSequence amountStr = record.value(columns.amount());
+		BigDecimal amount = CsvValueParser.parseAmount(amountStr);
+		if (amount == null) {
+			return reject(record, "Valor de 'amount' inválido: " + amountStr);
+		}
 
-		String description = record.get(headerMapping.get("description"));
-		String dueDateStr = record.get(headerMapping.get("duedate"));
-		LocalDate dueDate = parseLocalDate(dueDateStr);
+		String description = record.text(columns.description());
+		CharSequence dueDateStr = record.value(columns.dueDate());
+		LocalDate dueDate = CsvValueParser.parseDate(dueDateStr);
+		if (dueDate == null) {
+			return reject(record, "Data inválida: " + dueDateStr);
+		}
 
-		String status = record.get(headerMapping.get("status"));
+		String status = record.text(columns.status());
 
 		LocalDate paymentDate = null;
-		if (headerMapping.containsKey("paymentdate") && record.isMapped(headerMapping.get("paymentdate"))) {
-			String paymentDateStr = record.get(headerMapping.get("paymentdate"));
-			if (paymentDateStr != null && !paymentDateStr.isEmpty()) {
-				paymentDate = parseLocalDate(paymentDateStr);
+		if (columns.paymentDate() >= 0 && columns.paymentDate() < record.size()) {
+			CharSequence paymentDateStr = record.value(columns.paymentDate());
+			if (!paymentDateStr.isEmpty()) {
+				paymentDate = CsvValueParser.parseDate(paymentDateStr);
+				if (paymentDate == null) {
+					return reject(record, "Data inválida: " + paymentDateStr);
+				}
 			}
 		}
 		return AccountsPayable.builder().amount(amount).description(description).dueDate(dueDate)
 				.status(status).paymentDate(paymentDate).build();
 	}
 
-	private BigDecimal parseAmount(String amountStr) {
-		try {
-			return new BigDecimal(amountStr);
-		} catch (NumberFormatException e) {
-			throw new IllegalArgumentException("Valor de 'amount' inválido: " + amountStr, e);
-		}
-	}
-
-	private LocalDate parseLocalDate(String dateStr) {
-		try {
-			return LocalDate.parse(dateStr, DATE_FORMATTER);
-		} catch (DateTimeParseException e) {
-			throw new IllegalArgumentException("Data inválida: " + dateStr, e);
-		}
+	private AccountsPayable reject(CsvFields record, String message) {
+		log.warn("Erro ao processar a linha {}: {}", record.recordNumber(), message);
+		return null;
 	}
 }
@@ -0,0 +1,90 @@
+package com.totvs.accounts.application.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public final class CsvValueParser {
+
+	private static final int MAX_FAST_DIGITS = 18;
+
+	private CsvValueParser() {
+	}
+
+	public static BigDecimal parseAmount(CharSequence value) {
+		int length = value.length();
+		int i = 0;
+		boolean negative = false;
+		if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+			negative = value.charAt(0) == '-';
+			i++;
+		}
+		long unscaled = 0;
+		int digits = 0;
+		int scale = 0;
+		boolean fraction = false;
+		for (; i < length; i++) {
+			char c = value.charAt(i);
+			if (c >= '0' && c <= '9') {
+				if (++digits > MAX_FAST_DIGITS) {
+					return parseAmountSlow(value);
+				}
+				unscaled = unscaled * 10 + (c - '0');
+				if (fraction) {
+					scale++;
+				}
+			} else if (c == '.' && !fraction) {
+				fraction = true;
+			} else if (c == 'e' || c == 'E') {
+				return parseAmountSlow(value);
+			} else {
+				return null;
+			}
+		}
+		if (digits == 0) {
+			return null;
+		}
+		return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+	}
+
+	public static LocalDate parseDate(CharSequence value) {
+		if (value.length() != 10 || value.charAt(4) != '-' || value.charAt(7) != '-') {
+			return null;
+		}
+		int year = digits(value, 0, 4);
+		int month = digits(value, 5, 7);
+		int day = digits(value, 8, 10);
+		if (year < 1 || month < 1 || month > 12 || day < 1 || day > 31) {
+			return null;
+		}
+		int lengthOfMonth = switch (month) {
+		case 2 -> isLeap(year) ? 29 : 28;
+		case 4, 6, 9, 11 -> 30;
+		default -> 31;
+		};
+		return LocalDate.of(year, month, Math.min(day, lengthOfMonth));
+	}
+
+	private static int digits(CharSequence value, int start, int end) {
+		int result = 0;
+		for (int i = start; i < end; i++) {
+			char c = value.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			result = result * 10 + (c - '0');
+		}
+		return result;
+	}
+
+	private static boolean isLeap(int year) {
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+
+	private static BigDecimal parseAmountSlow(CharSequence value) {
+		try {
+			return new BigDecimal(value.toString());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,5 @@
+package com.totvs.accounts.application.service;
+
+public enum ImportEngine {
+	JPA, COPY
+}
@@ -0,0 +1,246 @@
+package com.totvs.accounts.application.service;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Separa os registros de um CSV mapeado em memória direto sobre os bytes, com as mesmas regras do formato usado pelo
+ * {@link CsvParserService}: vírgula como separador, aspas duplas com {@code ""} como escape, {@code \n}, {@code \r}
+ * ou {@code \r\n} como fim de linha, linhas vazias ignoradas e campos sem espaços nas pontas. Os campos ficam apenas
+ * como posições no buffer; valores e datas são lidos sem cópia e só os textos usados pela conta viram {@link String}.
+ * O arquivo é mapeado em janelas de {@code windowSize} bytes e um registro que cruza o fim da janela é relido a partir
+ * do início na janela seguinte. O scanner também pode ler só uma faixa do arquivo que comece e termine entre registros,
+ * como as devolvidas pelo {@link MappedCsvSplitter}.
+ */
+final class MappedCsvScanner implements CsvParserService.CsvFields {
+
+	private static final byte QUOTE = '"';
+	private static final byte DELIMITER = ',';
+	private static final byte LF = '\n';
+	private static final byte CR = '\r';
+
+	private enum Scan {
+		RECORD, END, INCOMPLETE
+	}
+
+	private final FileChannel channel;
+	private final long end;
+	private final int windowSize;
+	private final ByteView view = new ByteView();
+	private MappedByteBuffer buffer;
+	private long windowStart;
+	private int position;
+	private long recordNumber;
+	private int fieldCount;
+	private int[] starts = new int[16];
+	private int[] ends = new int[16];
+	private boolean[] escaped = new boolean[16];
+
+	MappedCsvScanner(FileChannel channel, int windowSize) throws IOException {
+		this(channel, windowSize, 0, channel.size(), -1);
+	}
+
+	/**
+	 * Lê os bytes de {@code start} a {@code end}; {@code recordNumber} é o número do registro anterior a {@code start}.
+	 */
+	MappedCsvScanner(FileChannel channel, int windowSize, long start, long end, long recordNumber) throws IOException {
+		this.channel = channel;
+		this.end = end;
+		this.windowSize = windowSize;
+		this.recordNumber = recordNumber;
+		map(start);
+	}
+
+	/**
+	 * Avança para o próximo registro. O primeiro registro lido é o cabeçalho, com número 0.
+	 */
+	boolean nextRecord() throws IOException {
+		while (true) {
+			Scan scan = scan();
+			if (scan == Scan.RECORD) {
+				recordNumber++;
+				return true;
+			}
+			if (scan == Scan.END) {
+				return false;
+			}
+			if (position == 0) {
+				throw new IOException("O registro " + (recordNumber + 1) + " é maior que a janela de leitura de "
+						+ windowSize + " bytes");
+			}
+			map(windowStart + position);
+		}
+	}
+
+	@Override
+	public int size() {
+		return fieldCount;
+	}
+
+	@Override
+	public CharSequence value(int index) {
+		if (escaped[index]) {
+			return text(index);
+		}
+		view.start = starts[index];
+		view.length = ends[index] - starts[index];
+		return view;
+	}
+
+	@Override
+	public String text(int index) {
+		String text = decode(starts[index], ends[index]);
+		return escaped[index] ? text.replace("\"\"", "\"") : text;
+	}
+
+	@Override
+	public long recordNumber() {
+		return recordNumber;
+	}
+
+	/**
+	 * Posição no arquivo logo após o último registro lido.
+	 */
+	long offset() {
+		return windowStart + position;
+	}
+
+	private void map(long offset) throws IOException {
+		buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(windowSize, end - offset));
+		windowStart = offset;
+		position = 0;
+	}
+
+	// Em INCOMPLETE, position aponta para o início do registro que precisa ser relido na próxima janela.
+	private Scan scan() throws IOException {
+		MappedByteBuffer buffer = this.buffer;
+		int limit = buffer.limit();
+		boolean lastWindow = windowStart + limit == end;
+		int i = position;
+		while (i < limit && isLineBreak(buffer.get(i))) {
+			i++;
+		}
+		position = i;
+		if (i == limit) {
+			return lastWindow ? Scan.END : Scan.INCOMPLETE;
+		}
+
+		fieldCount = 0;
+		while (true) {
+			int start = i;
+			int end;
+			boolean hasEscape = false;
+			if (i < limit && buffer.get(i) == QUOTE) {
+				start = ++i;
+				while (true) {
+					if (i >= limit) {
+						if (lastWindow) {
+							throw new IOException("Fim do arquivo antes do fechamento das aspas no registro "
+									+ (recordNumber + 1));
+						}
+						return Scan.INCOMPLETE;
+					}
+					if (buffer.get(i) == QUOTE) {
+						if (i + 1 == limit && !lastWindow) {
+							return Scan.INCOMPLETE;
+						}
+						if (i + 1 < limit && buffer.get(i + 1) == QUOTE) {
+							hasEscape = true;
+							i += 2;
+							continue;
+						}
+						end = i++;
+						break;
+					}
+					i++;
+				}
+				for (byte b; i < limit && (b = buffer.get(i)) != DELIMITER && !isLineBreak(b); i++) {
+					if (b < 0 || !Character.isWhitespace(b)) {
+						throw new IOException("Caractere inválido após o campo entre aspas no registro "
+								+ (recordNumber + 1));
+					}
+				}
+			} else {
+				for (byte b; i < limit && (b = buffer.get(i)) != DELIMITER && !isLineBreak(b);) {
+					i++;
+				}
+				end = i;
+			}
+			if (i == limit && !lastWindow) {
+				return Scan.INCOMPLETE;
+			}
+			addField(start, end, hasEscape);
+
+			if (i == limit) {
+				position = i;
+				return Scan.RECORD;
+			}
+			byte separator = buffer.get(i++);
+			if (separator == DELIMITER) {
+				continue;
+			}
+			if (separator == CR && i < limit && buffer.get(i) == LF) {
+				i++;
+			}
+			position = i;
+			return Scan.RECORD;
+		}
+	}
+
+	private void addField(int start, int end, boolean hasEscape) {
+		while (start < end && (buffer.get(start) & 0xFF) <= ' ') {
+			start++;
+		}
+		while (end > start && (buffer.get(end - 1) & 0xFF) <= ' ') {
+			end--;
+		}
+		if (fieldCount == starts.length) {
+			starts = Arrays.copyOf(starts, fieldCount * 2);
+			ends = Arrays.copyOf(ends, fieldCount * 2);
+			escaped = Arrays.copyOf(escaped, fieldCount * 2);
+		}
+		starts[fieldCount] = start;
+		ends[fieldCount] = end;
+		escaped[fieldCount] = hasEscape;
+		fieldCount++;
+	}
+
+	private String decode(int start, int end) {
+		byte[] bytes = new byte[end - start];
+		buffer.get(start, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static boolean isLineBreak(byte b) {
+		return b == LF || b == CR;
+	}
+
+	private final class ByteView implements CharSequence {
+
+		private int start;
+		private int length;
+
+		@Override
+		public int length() {
+			return length;
+		}
+
+		@Override
+		public char charAt(int index) {
+			return (char) (buffer.get(start + index) & 0xFF);
+		}
+
+		@Override
+		public CharSequence subSequence(int from, int to) {
+			return toString().substring(from, to);
+		}
+
+		@Override
+		public String toString() {
+			return decode(start, start + length);
+		}
+	}
+}
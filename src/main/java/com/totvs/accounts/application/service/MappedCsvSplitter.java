@@ -0,0 +1,131 @@
+package com.totvs.accounts.application.service;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Divide um CSV em disco em faixas de cerca de {@code rangeSize} bytes que começam e terminam entre registros, para
+ * que cada faixa seja separada em campos por um {@link MappedCsvScanner} próprio, em paralelo. Uma quebra de linha só
+ * encerra a faixa fora de um campo entre aspas, com as mesmas regras do scanner. A passagem olha apenas aspas e quebras
+ * de linha e conta os registros, para que as faixas mantenham a numeração do arquivo inteiro.
+ */
+final class MappedCsvSplitter {
+
+	private static final byte QUOTE = '"';
+	private static final byte DELIMITER = ',';
+	private static final byte LF = '\n';
+	private static final byte CR = '\r';
+
+	private final FileChannel channel;
+	private final long fileSize;
+	private final int rangeSize;
+	private final int windowSize;
+	private MappedByteBuffer buffer;
+	private long windowStart;
+	private long start;
+	private long end;
+	private long recordsBefore;
+	private long records;
+
+	/**
+	 * Começa em {@code start}, logo após o registro de número {@code recordNumber}.
+	 */
+	MappedCsvSplitter(FileChannel channel, long start, long recordNumber, int rangeSize, int windowSize)
+			throws IOException {
+		this.channel = channel;
+		this.fileSize = channel.size();
+		this.rangeSize = rangeSize;
+		this.windowSize = windowSize;
+		this.end = start;
+		this.records = recordNumber;
+	}
+
+	/**
+	 * Avança para a próxima faixa, que vai de {@link #start()} a {@link #end()}.
+	 */
+	boolean nextRange() throws IOException {
+		if (end >= fileSize) {
+			return false;
+		}
+		start = end;
+		recordsBefore = records;
+		end = boundaryAfter(Math.min(start + rangeSize, fileSize));
+		return true;
+	}
+
+	long start() {
+		return start;
+	}
+
+	long end() {
+		return end;
+	}
+
+	/**
+	 * Número do último registro antes de {@link #start()}.
+	 */
+	long recordsBefore() {
+		return recordsBefore;
+	}
+
+	// Aspas que fecham ou escapam só são decididas com o byte seguinte; no fim da janela, a janela seguinte começa nelas.
+	private long boundaryAfter(long target) throws IOException {
+		boolean quoted = false;
+		boolean fieldStart = true;
+		boolean inRecord = false;
+		long offset = start;
+		while (offset < fileSize) {
+			MappedByteBuffer buffer = windowAt(offset);
+			int limit = buffer.limit();
+			boolean lastWindow = windowStart + limit == fileSize;
+			int i = (int) (offset - windowStart);
+			for (; i < limit; i++) {
+				byte b = buffer.get(i);
+				if (quoted) {
+					if (b == QUOTE) {
+						if (i + 1 == limit && !lastWindow) {
+							this.buffer = null;
+							break;
+						}
+						if (i + 1 < limit && buffer.get(i + 1) == QUOTE) {
+							i++;
+						} else {
+							quoted = false;
+						}
+					}
+					continue;
+				}
+				if (b == LF || b == CR) {
+					if (inRecord) {
+						records++;
+						inRecord = false;
+					}
+					if (windowStart + i + 1 >= target) {
+						return windowStart + i + 1;
+					}
+					fieldStart = true;
+					continue;
+				}
+				inRecord = true;
+				if (fieldStart && b == QUOTE) {
+					quoted = true;
+				}
+				fieldStart = b == DELIMITER;
+			}
+			offset = windowStart + i;
+		}
+		if (inRecord) {
+			records++;
+		}
+		return fileSize;
+	}
+
+	private MappedByteBuffer windowAt(long offset) throws IOException {
+		if (buffer == null || offset < windowStart || offset >= windowStart + buffer.limit()) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(windowSize, fileSize - offset));
+			windowStart = offset;
+		}
+		return buffer;
+	}
+}
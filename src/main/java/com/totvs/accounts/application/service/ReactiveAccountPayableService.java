@@ -0,0 +1,36 @@
+package com.totvs.accounts.application.service;
+
+import java.time.LocalDate;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.totvs.accounts.domain.entity.AccountsPayable;
+import com.totvs.accounts.infrastructure.persistence.ReactiveAccountsPayableReader;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveAccountPayableService {
+
+	private static final int MAX_PAGE_SIZE = 1000;
+
+	private final ReactiveAccountsPayableReader reactiveAccountsPayableReader;
+
+	public Flux<AccountsPayable> getAccountsPayable(LocalDate dueDate, String description, Pageable pageable) {
+		if (pageable.getPageSize() > MAX_PAGE_SIZE) {
+			throw new IllegalArgumentException("O tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE);
+		}
+		return reactiveAccountsPayableReader.findAll(dueDate, description, pageable);
+	}
+
+	public Mono<AccountsPayable> getAccountsPayableById(Long id) {
+		return reactiveAccountsPayableReader.findById(id).switchIfEmpty(
+				Mono.error(() -> new EntityNotFoundException("Conta de id (" + id + ") não foi encontrada!")));
+	}
+
+}
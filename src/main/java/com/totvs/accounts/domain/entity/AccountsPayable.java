@@ -1,14 +1,26 @@
 package com.totvs.accounts.domain.entity;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
+import java.util.HexFormat;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,8 +36,14 @@ import lombok.Setter;
 @Builder
 public class AccountsPayable {
 
+    /**
+     * Quantidade de ids reservada por chamada a {@code nextval('conta_seq')}, igual ao incremento da sequence.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "conta_seq")
+    @SequenceGenerator(name = "conta_seq", sequenceName = "conta_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "valor", nullable = false)
@@ -43,6 +61,27 @@ public class AccountsPayable {
     @Column(name = "situacao", nullable = false, length = 50)
     private String status;
 
+    @Version
+    @Column(name = "versao", nullable = false)
+    private Long version;
+
+    @Column(name = "chave_hash", length = 64)
+    private String keyHash;
+
+    /**
+     * Chave natural e {@code chave_hash} como estavam no banco. Contas repetidas antes da V9 têm a chave sem hash e só
+     * recebem um hash se a descrição, o vencimento ou o valor mudarem.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String storedKey;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String storedKeyHash;
+
     @Builder
     public AccountsPayable(BigDecimal amount, String description, LocalDate dueDate, LocalDate paymentDate,
             String status) {
@@ -52,4 +91,55 @@ public class AccountsPayable {
         this.paymentDate = paymentDate;
         this.status = status;
     }
+
+    /**
+     * Hash SHA-256 (hex) da chave natural descrição + vencimento + valor, o mesmo calculado pela migração V9 para as
+     * contas existentes. Retorna {@code null} enquanto algum dos campos não estiver preenchido.
+     */
+    public static String keyHashOf(String description, LocalDate dueDate, BigDecimal amount) {
+        return hashOf(keyOf(description, dueDate, amount));
+    }
+
+    private static String keyOf(String description, LocalDate dueDate, BigDecimal amount) {
+        if (description == null || dueDate == null || amount == null) {
+            return null;
+        }
+        return description + '\u001f' + dueDate + '\u001f'
+                + amount.setScale(2, RoundingMode.HALF_UP).stripTrailingZeros().toPlainString();
+    }
+
+    private static String hashOf(String key) {
+        if (key == null) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String computeKeyHash() {
+        return keyHashOf(description, dueDate, amount);
+    }
+
+    @PostLoad
+    void rememberKey() {
+        storedKey = keyOf(description, dueDate, amount);
+        storedKeyHash = keyHash;
+    }
+
+    @PrePersist
+    void createKeyHash() {
+        keyHash = computeKeyHash();
+        rememberKey();
+    }
+
+    @PreUpdate
+    void updateKeyHash() {
+        String key = keyOf(description, dueDate, amount);
+        keyHash = key != null && key.equals(storedKey) ? storedKeyHash : hashOf(key);
+        rememberKey();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.totvs.accounts.domain.entity;
+
+import java.math.BigDecimal;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Mantida pelos triggers de V7__Conta.sql; a aplicação apenas lê.
+@Entity
+@Immutable
+@Table(name = "conta_total_diario")
+@Getter
+@NoArgsConstructor
+public class AccountsPayableDailyTotal {
+
+    @EmbeddedId
+    private AccountsPayableDailyTotalId id;
+
+    @Column(name = "total", nullable = false)
+    private BigDecimal total;
+
+    @Column(name = "quantidade", nullable = false)
+    private Long count;
+}
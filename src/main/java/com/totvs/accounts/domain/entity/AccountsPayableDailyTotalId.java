@@ -0,0 +1,25 @@
+package com.totvs.accounts.domain.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class AccountsPayableDailyTotalId implements Serializable {
+
+    @Column(name = "data_vencimento", nullable = false)
+    private LocalDate dueDate;
+
+    @Column(name = "situacao", nullable = false, length = 50)
+    private String status;
+}
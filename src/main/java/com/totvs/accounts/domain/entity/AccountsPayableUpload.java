@@ -0,0 +1,73 @@
+package com.totvs.accounts.domain.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Upload em partes de um CSV e o ponto de retomada da importação (último registro já gravado).
+@Entity
+@Table(name = "importacao")
+@Getter
+@Setter
+@NoArgsConstructor
+public class AccountsPayableUpload {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "nome_arquivo", nullable = false, length = 255)
+    private String fileName;
+
+    @Column(name = "motor", nullable = false, length = 10)
+    private String engine;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "situacao", nullable = false, length = 20)
+    private AccountsPayableUploadStatus status;
+
+    @Column(name = "tamanho_bytes")
+    private Long sizeBytes;
+
+    @Column(name = "posicao_caractere", nullable = false)
+    private long characterOffset;
+
+    @Column(name = "registro", nullable = false)
+    private long recordNumber;
+
+    @Column(name = "linhas_aceitas", nullable = false)
+    private long rowsAccepted;
+
+    @Column(name = "linhas_rejeitadas", nullable = false)
+    private long rowsRejected;
+
+    @Column(name = "linhas_duplicadas", nullable = false)
+    private long rowsDuplicated;
+
+    @Column(name = "erro", length = 1000)
+    private String error;
+
+    @Column(name = "criado_em", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "atualizado_em", nullable = false)
+    private Instant updatedAt;
+
+    public AccountsPayableUpload(String fileName, String engine) {
+        Instant now = Instant.now();
+        this.id = UUID.randomUUID();
+        this.fileName = fileName;
+        this.engine = engine;
+        this.status = AccountsPayableUploadStatus.RECEIVING;
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+}
@@ -0,0 +1,5 @@
+package com.totvs.accounts.domain.entity;
+
+public enum AccountsPayableUploadStatus {
+    RECEIVING, IMPORTING, COMPLETED, FAILED
+}
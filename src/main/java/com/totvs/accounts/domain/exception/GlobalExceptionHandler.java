@@ -1,6 +1,9 @@
 package com.totvs.accounts.domain.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -55,6 +58,44 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
 	}
 
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	public ResponseEntity<Map<String, String>> handleOptimisticLockingFailureException(
+			OptimisticLockingFailureException ex) {
+		log.warn("Conflito de concorrência: {}", ex.getMessage());
+		Map<String, String> errorResponse = new HashMap<>();
+		errorResponse.put("error", "A conta foi alterada por outra requisição. Recarregue e tente novamente.");
+		return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+	}
+
+	@ExceptionHandler(InvalidUploadStateException.class)
+	public ResponseEntity<Map<String, String>> handleInvalidUploadStateException(InvalidUploadStateException ex) {
+		log.warn("Operação inválida no upload: {}", ex.getMessage());
+		Map<String, String> errorResponse = new HashMap<>();
+		errorResponse.put("error", ex.getMessage());
+		return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+	}
+
+	@ExceptionHandler(DataIntegrityViolationException.class)
+	public ResponseEntity<Map<String, String>> handleDataIntegrityViolationException(
+			DataIntegrityViolationException ex) {
+		String cause = ex.getMostSpecificCause().getMessage();
+		if (cause == null || !cause.contains("ux_conta_chave_hash")) {
+			return handleGeneralException(ex);
+		}
+		log.warn("Conta duplicada: {}", cause);
+		Map<String, String> errorResponse = new HashMap<>();
+		errorResponse.put("error", "Já existe uma conta com a mesma descrição, data de vencimento e valor.");
+		return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+	}
+
+	@ExceptionHandler(TaskRejectedException.class)
+	public ResponseEntity<Map<String, String>> handleTaskRejectedException(TaskRejectedException ex) {
+		log.error("Fila de importação cheia: {}", ex.getMessage(), ex);
+		Map<String, String> errorResponse = new HashMap<>();
+		errorResponse.put("error", "Limite de importações simultâneas atingido. Tente novamente mais tarde.");
+		return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+	}
+
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<Map<String, String>> handleGeneralException(Exception ex) {
 		log.error("Erro interno no servidor: {}", ex.getMessage(), ex);
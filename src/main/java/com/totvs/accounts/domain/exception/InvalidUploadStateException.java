@@ -0,0 +1,8 @@
+package com.totvs.accounts.domain.exception;
+
+public class InvalidUploadStateException extends RuntimeException {
+
+	public InvalidUploadStateException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,19 @@
+package com.totvs.accounts.domain.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface AccountsPayableDailyTotalMismatch {
+
+    LocalDate getDueDate();
+
+    String getStatus();
+
+    BigDecimal getExpectedTotal();
+
+    Long getExpectedCount();
+
+    BigDecimal getActualTotal();
+
+    Long getActualCount();
+}
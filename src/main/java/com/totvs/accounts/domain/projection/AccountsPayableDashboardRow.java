@@ -0,0 +1,14 @@
+package com.totvs.accounts.domain.projection;
+
+import java.math.BigDecimal;
+
+public interface AccountsPayableDashboardRow {
+
+    String getDimension();
+
+    String getBucket();
+
+    BigDecimal getTotal();
+
+    Long getCount();
+}
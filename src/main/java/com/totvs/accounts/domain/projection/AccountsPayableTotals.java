@@ -0,0 +1,11 @@
+package com.totvs.accounts.domain.projection;
+
+import java.math.BigDecimal;
+
+public record AccountsPayableTotals(BigDecimal total, Long count) {
+
+    public AccountsPayableTotals {
+        total = total == null ? BigDecimal.ZERO : total;
+        count = count == null ? 0L : count;
+    }
+}
@@ -0,0 +1,21 @@
+package com.totvs.accounts.domain.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface AccountsPayableView {
+
+    Long getId();
+
+    BigDecimal getAmount();
+
+    String getDescription();
+
+    LocalDate getDueDate();
+
+    LocalDate getPaymentDate();
+
+    String getStatus();
+
+    Long getVersion();
+}
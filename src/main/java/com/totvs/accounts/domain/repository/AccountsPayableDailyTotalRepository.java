@@ -0,0 +1,61 @@
+package com.totvs.accounts.domain.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.totvs.accounts.domain.entity.AccountsPayableDailyTotal;
+import com.totvs.accounts.domain.entity.AccountsPayableDailyTotalId;
+import com.totvs.accounts.domain.projection.AccountsPayableDailyTotalMismatch;
+import com.totvs.accounts.domain.projection.AccountsPayableTotals;
+
+@Repository
+public interface AccountsPayableDailyTotalRepository
+        extends JpaRepository<AccountsPayableDailyTotal, AccountsPayableDailyTotalId> {
+
+    @Query("SELECT new com.totvs.accounts.domain.projection.AccountsPayableTotals(SUM(d.total), SUM(d.count)) "
+            + "FROM AccountsPayableDailyTotal d WHERE d.id.dueDate BETWEEN :startDate AND :endDate")
+    AccountsPayableTotals sumTotalByDueDateBetween(@Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query(value = """
+            SELECT COALESCE(e.data_vencimento, a.data_vencimento) AS "dueDate",
+                   COALESCE(e.situacao, a.situacao) AS "status",
+                   COALESCE(e.total, 0) AS "expectedTotal",
+                   COALESCE(e.quantidade, 0) AS "expectedCount",
+                   COALESCE(a.total, 0) AS "actualTotal",
+                   COALESCE(a.quantidade, 0) AS "actualCount"
+            FROM (
+                SELECT data_vencimento, situacao, SUM(valor) AS total, COUNT(*) AS quantidade
+                FROM conta
+                GROUP BY data_vencimento, situacao
+            ) e
+            FULL OUTER JOIN conta_total_diario a
+                ON a.data_vencimento = e.data_vencimento AND a.situacao = e.situacao
+            WHERE e.total IS DISTINCT FROM a.total OR e.quantidade IS DISTINCT FROM a.quantidade
+            ORDER BY 1, 2
+            """, nativeQuery = true)
+    List<AccountsPayableDailyTotalMismatch> findMismatches();
+
+    @Modifying
+    @Query(value = "LOCK TABLE conta IN SHARE MODE", nativeQuery = true)
+    void lockAccountsPayable();
+
+    @Modifying
+    @Query(value = "DELETE FROM conta_total_diario", nativeQuery = true)
+    int deleteAllTotals();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO conta_total_diario (data_vencimento, situacao, total, quantidade)
+            SELECT data_vencimento, situacao, SUM(valor), COUNT(*)
+            FROM conta
+            GROUP BY data_vencimento, situacao
+            """, nativeQuery = true)
+    int insertTotalsFromAccountsPayable();
+}
@@ -1,23 +1,100 @@
 package com.totvs.accounts.domain.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.totvs.accounts.domain.entity.AccountsPayable;
+import com.totvs.accounts.domain.projection.AccountsPayableDashboardRow;
+import com.totvs.accounts.domain.projection.AccountsPayableView;
 
 @Repository
 public interface AccountsPayableRepository extends JpaRepository<AccountsPayable, Long> {
 
-    Page<AccountsPayable> findAccountsPayableByDueDate(LocalDate dueDate, Pageable pageable);
+    Page<AccountsPayableView> findAccountsPayableBy(Pageable pageable);
 
-    Page<AccountsPayable> findAccountsPayableByDescriptionContaining(String description, Pageable pageable);
+    Page<AccountsPayableView> findAccountsPayableByDueDate(LocalDate dueDate, Pageable pageable);
 
-    Page<AccountsPayable> findAccountsPayableByDueDateAndDescriptionContaining(LocalDate dueDate, String description, Pageable pageable);
+    // descricao LIKE '%...%' é atendido pelo índice GIN pg_trgm criado em V5__Conta.sql
+    Page<AccountsPayableView> findAccountsPayableByDescriptionContaining(String description, Pageable pageable);
 
-    List<AccountsPayable> findByDueDateBetween(LocalDate startDate, LocalDate endDate);
+    Page<AccountsPayableView> findAccountsPayableByDueDateAndDescriptionContaining(LocalDate dueDate, String description, Pageable pageable);
+
+    Window<AccountsPayableView> findAccountsPayableBy(ScrollPosition position, Limit limit, Sort sort);
+
+    Window<AccountsPayableView> findAccountsPayableByDueDate(LocalDate dueDate, ScrollPosition position, Limit limit,
+            Sort sort);
+
+    Window<AccountsPayableView> findAccountsPayableByDescriptionContaining(String description, ScrollPosition position,
+            Limit limit, Sort sort);
+
+    Window<AccountsPayableView> findAccountsPayableByDueDateAndDescriptionContaining(LocalDate dueDate, String description,
+            ScrollPosition position, Limit limit, Sort sort);
+
+    @Query("SELECT a.keyHash FROM AccountsPayable a WHERE a.keyHash IN :keyHashes")
+    List<String> findKeyHashesIn(@Param("keyHashes") Collection<String> keyHashes);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AccountsPayable a SET a.status = :status, a.paymentDate = COALESCE(:paymentDate, a.paymentDate), "
+            + "a.version = a.version + 1 WHERE a.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") List<Long> ids, @Param("status") String status,
+            @Param("paymentDate") LocalDate paymentDate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AccountsPayable a SET a.status = :status, a.paymentDate = COALESCE(:paymentDate, a.paymentDate), "
+            + "a.version = a.version + 1 WHERE a.dueDate BETWEEN :startDate AND :endDate "
+            + "AND (:currentStatus IS NULL OR a.status = :currentStatus)")
+    int updateStatusByDueDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+            @Param("currentStatus") String currentStatus, @Param("status") String status,
+            @Param("paymentDate") LocalDate paymentDate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AccountsPayable a SET a.status = :status, a.version = a.version + 1 "
+            + "WHERE a.id = :id AND a.status = :expectedStatus")
+    int updateStatusByIdAndStatus(@Param("id") Long id, @Param("expectedStatus") String expectedStatus,
+            @Param("status") String status);
+
+    @Query(value = """
+            WITH base AS (
+                SELECT situacao,
+                       to_char(data_vencimento, 'YYYY-MM') AS mes,
+                       CASE
+                           WHEN data_pagamento IS NOT NULL OR data_vencimento >= CAST(:referenceDate AS date) THEN NULL
+                           WHEN CAST(:referenceDate AS date) - data_vencimento <= 30 THEN '0-30'
+                           WHEN CAST(:referenceDate AS date) - data_vencimento <= 60 THEN '31-60'
+                           WHEN CAST(:referenceDate AS date) - data_vencimento <= 90 THEN '61-90'
+                           ELSE '90+'
+                       END AS faixa,
+                       valor
+                FROM conta
+                WHERE data_vencimento BETWEEN CAST(:startDate AS date) AND CAST(:endDate AS date)
+            )
+            SELECT CASE
+                       WHEN GROUPING(situacao) = 0 THEN 'status'
+                       WHEN GROUPING(mes) = 0 THEN 'dueMonth'
+                       WHEN GROUPING(faixa) = 0 THEN 'aging'
+                       ELSE 'total'
+                   END AS dimension,
+                   COALESCE(situacao, mes, faixa, 'total') AS bucket,
+                   SUM(valor) AS total,
+                   COUNT(*) AS count
+            FROM base
+            GROUP BY GROUPING SETS ((situacao), (mes), (faixa), ())
+            HAVING GROUPING(faixa) = 1 OR faixa IS NOT NULL
+            ORDER BY dimension, bucket
+            """, nativeQuery = true)
+    List<AccountsPayableDashboardRow> summarizeByStatusMonthAndAging(@Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate, @Param("referenceDate") LocalDate referenceDate);
 }
\ No newline at end of file
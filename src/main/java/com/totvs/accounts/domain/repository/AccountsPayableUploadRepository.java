@@ -0,0 +1,71 @@
+package com.totvs.accounts.domain.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.totvs.accounts.domain.entity.AccountsPayableUpload;
+import com.totvs.accounts.domain.entity.AccountsPayableUploadStatus;
+
+@Repository
+public interface AccountsPayableUploadRepository extends JpaRepository<AccountsPayableUpload, UUID> {
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AccountsPayableUpload u SET u.characterOffset = :characterOffset, u.recordNumber = :recordNumber, "
+            + "u.rowsAccepted = :rowsAccepted, u.rowsRejected = :rowsRejected, u.rowsDuplicated = :rowsDuplicated, "
+            + "u.updatedAt = :updatedAt WHERE u.id = :id AND u.updatedAt = :claimedAt")
+    int updateCheckpoint(@Param("id") UUID id, @Param("characterOffset") long characterOffset,
+            @Param("recordNumber") long recordNumber, @Param("rowsAccepted") long rowsAccepted,
+            @Param("rowsRejected") long rowsRejected, @Param("rowsDuplicated") long rowsDuplicated,
+            @Param("claimedAt") Instant claimedAt, @Param("updatedAt") Instant updatedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AccountsPayableUpload u SET u.status = :status, u.error = :error, u.updatedAt = :updatedAt "
+            + "WHERE u.id = :id")
+    int updateStatus(@Param("id") UUID id, @Param("status") AccountsPayableUploadStatus status,
+            @Param("error") String error, @Param("updatedAt") Instant updatedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AccountsPayableUpload u SET u.status = :status, u.error = :error, u.updatedAt = :updatedAt "
+            + "WHERE u.id = :id AND u.updatedAt = :claimedAt")
+    int updateStatusIfClaimed(@Param("id") UUID id, @Param("status") AccountsPayableUploadStatus status,
+            @Param("error") String error, @Param("claimedAt") Instant claimedAt, @Param("updatedAt") Instant updatedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AccountsPayableUpload u SET u.status = :status, u.sizeBytes = :sizeBytes, u.updatedAt = :updatedAt "
+            + "WHERE u.id = :id AND u.status = :expected")
+    int updateStatusIf(@Param("id") UUID id, @Param("expected") AccountsPayableUploadStatus expected,
+            @Param("status") AccountsPayableUploadStatus status, @Param("sizeBytes") Long sizeBytes,
+            @Param("updatedAt") Instant updatedAt);
+
+    // A importação grava atualizado_em a cada bloco; sem atualização desde staleBefore, ela foi interrompida
+    @Transactional
+    @Modifying
+    @Query("UPDATE AccountsPayableUpload u SET u.status = :importing, u.error = NULL, u.updatedAt = :updatedAt "
+            + "WHERE u.id = :id AND (u.status = :failed OR (u.status = :importing AND u.updatedAt < :staleBefore))")
+    int updateStatusIfStopped(@Param("id") UUID id, @Param("failed") AccountsPayableUploadStatus failed,
+            @Param("importing") AccountsPayableUploadStatus importing, @Param("staleBefore") Instant staleBefore,
+            @Param("updatedAt") Instant updatedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AccountsPayableUpload u SET u.updatedAt = :updatedAt WHERE u.id = :id AND u.updatedAt = :claimedAt")
+    int renewClaim(@Param("id") UUID id, @Param("claimedAt") Instant claimedAt, @Param("updatedAt") Instant updatedAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AccountsPayableUpload u WHERE u.id = :id "
+            + "AND (u.status <> :importing OR u.updatedAt < :staleBefore)")
+    int deleteIfStopped(@Param("id") UUID id, @Param("importing") AccountsPayableUploadStatus importing,
+            @Param("staleBefore") Instant staleBefore);
+}
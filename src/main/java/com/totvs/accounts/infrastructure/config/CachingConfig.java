@@ -0,0 +1,14 @@
+package com.totvs.accounts.infrastructure.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// Cache por fora da transação: o valor só é gravado após o commit e acertos no cache não abrem transação
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CachingConfig {
+
+	public static final String ACCOUNTS_PAYABLE_CACHE = "accountsPayable";
+
+}
@@ -0,0 +1,79 @@
+package com.totvs.accounts.infrastructure.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConnectionPoolSizingCheck {
+
+	static final long VIRTUAL_THREADS_MAX_CONNECTION_TIMEOUT = 10_000;
+
+	private final ObjectProvider<HikariDataSource> dataSources;
+	private final ImportProperties importProperties;
+	private final ReactiveReadProperties reactiveReadProperties;
+	private final Environment environment;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void check() {
+		boolean virtualThreads = Threading.VIRTUAL.isActive(environment);
+		log.info("Threads virtuais {} para requisições e importações", virtualThreads ? "ativas" : "desativadas");
+		int primaryConnections = 0;
+		for (HikariDataSource dataSource : dataSources.orderedStream().toList()) {
+			log.info("Pool {}: {} conexões, connection-timeout de {} ms", dataSource.getPoolName(),
+					dataSource.getMaximumPoolSize(), dataSource.getConnectionTimeout());
+			check(dataSource.getPoolName(), dataSource.getMaximumPoolSize(), dataSource.getConnectionTimeout(),
+					dataSource.isReadOnly(), importProperties.getAsyncThreads(), virtualThreads).forEach(log::warn);
+			if (!dataSource.isReadOnly()) {
+				primaryConnections += dataSource.getMaximumPoolSize();
+			}
+		}
+		boolean reactiveOnReplica = reactiveReadProperties
+				.usesReplica(environment.getProperty("accounts.datasource.replica.jdbc-url"));
+		log.info("Pool r2dbc: {} conexões no banco {}", reactiveReadProperties.getMaxPoolSize(),
+				reactiveOnReplica ? "réplica" : "principal");
+		checkReactive(reactiveReadProperties.getMaxPoolSize(), reactiveOnReplica, primaryConnections)
+				.ifPresent(log::warn);
+	}
+
+	static Optional<String> checkReactive(int maxPoolSize, boolean onReplica, int primaryConnections) {
+		if (onReplica || maxPoolSize <= primaryConnections) {
+			return Optional.empty();
+		}
+		return Optional.of("O pool r2dbc abre até " + maxPoolSize + " conexões no banco principal, além das "
+				+ primaryConnections + " dos pools JDBC (" + (maxPoolSize + primaryConnections)
+				+ " por instância). Configure a réplica de leitura ou reduza accounts.r2dbc.max-pool-size.");
+	}
+
+	static List<String> check(String poolName, int maximumPoolSize, long connectionTimeout, boolean readOnly,
+			int asyncThreads, boolean virtualThreads) {
+		List<String> warnings = new ArrayList<>();
+		if (!readOnly && maximumPoolSize <= asyncThreads) {
+			warnings.add("O pool " + poolName + " tem " + maximumPoolSize + " conexões e até " + asyncThreads
+					+ " importações simultâneas; durante as importações as demais requisições ficam sem conexão. "
+					+ "Reduza accounts.import.async-threads ou aumente spring.datasource.hikari.maximum-pool-size.");
+		}
+		if (virtualThreads && connectionTimeout > VIRTUAL_THREADS_MAX_CONNECTION_TIMEOUT) {
+			warnings.add("Com threads virtuais o número de requisições simultâneas é limitado apenas pelo pool "
+					+ poolName + " e cada requisição espera até " + connectionTimeout + " ms por uma conexão. "
+					+ "Use um connection-timeout de até " + VIRTUAL_THREADS_MAX_CONNECTION_TIMEOUT
+					+ " ms para falhar rápido sob sobrecarga.");
+		}
+		return warnings;
+	}
+
+}
@@ -0,0 +1,37 @@
+package com.totvs.accounts.infrastructure.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+
+@Component
+public class CsvParsePool implements DisposableBean {
+
+	@Getter
+	private final int parallelism;
+	private final ForkJoinPool pool;
+
+	public CsvParsePool(ImportProperties importProperties) {
+		this.parallelism = importProperties.getParseParallelism();
+		this.pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+	}
+
+	public boolean isEnabled() {
+		return pool != null;
+	}
+
+	public Executor executor() {
+		return pool;
+	}
+
+	@Override
+	public void destroy() {
+		if (pool != null) {
+			pool.shutdown();
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package com.totvs.accounts.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "accounts.export")
+public class ExportProperties {
+
+	private int fetchSize = 5000;
+
+}
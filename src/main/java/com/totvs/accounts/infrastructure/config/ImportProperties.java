@@ -0,0 +1,50 @@
+package com.totvs.accounts.infrastructure.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "accounts.import")
+public class ImportProperties {
+
+	private int chunkSize = 1000;
+
+	private int copyChunkSize = 20000;
+
+	private int batchMaxItems = 10000;
+
+	/**
+	 * Threads que separam e convertem em paralelo as faixas dos arquivos gravados em disco; por padrão, os núcleos
+	 * disponíveis, até 4. Com {@code 1} a leitura é sequencial. Não se aplica ao {@code mode=stream} nem aos uploads em
+	 * partes.
+	 */
+	private int parseParallelism = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+	/**
+	 * Lê os arquivos gravados em disco mapeados em memória. Não se aplica aos uploads em partes, cuja importação
+	 * retomável usa pontos de retomada por posição de caractere e sempre lê com um Reader.
+	 */
+	private boolean mappedParse = false;
+
+	private int asyncThreads = 2;
+
+	private int asyncQueueCapacity = 10;
+
+	private Path spoolDir = Path.of(System.getProperty("java.io.tmpdir"), "accounts-import");
+
+	private Duration jobRetention = Duration.ofHours(24);
+
+	private DataSize uploadPartMaxSize = DataSize.ofMegabytes(256);
+
+	private int uploadMaxParts = 10000;
+
+	private Duration uploadStaleAfter = Duration.ofMinutes(10);
+
+}
@@ -0,0 +1,34 @@
+package com.totvs.accounts.infrastructure.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ImportTaskExecutor implements DisposableBean {
+
+	private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+	// Com threads virtuais o pool continua limitado a async-threads: cada importação ocupa uma conexão do banco
+	public ImportTaskExecutor(ImportProperties importProperties, Environment environment) {
+		executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+		executor.setCorePoolSize(importProperties.getAsyncThreads());
+		executor.setMaxPoolSize(importProperties.getAsyncThreads());
+		executor.setQueueCapacity(importProperties.getAsyncQueueCapacity());
+		executor.setThreadNamePrefix("csv-import-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(60);
+		executor.initialize();
+	}
+
+	public void execute(Runnable task) {
+		executor.execute(task);
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdown();
+	}
+}
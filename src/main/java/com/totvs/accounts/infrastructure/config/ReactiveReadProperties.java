@@ -0,0 +1,38 @@
+package com.totvs.accounts.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "accounts.r2dbc")
+public class ReactiveReadProperties {
+
+	private String url;
+
+	// Sem valor, usa a réplica de accounts.datasource.replica.jdbc-url quando ela estiver configurada
+	private String replicaUrl;
+
+	private String username;
+
+	private String password;
+
+	private int maxPoolSize = 20;
+
+	public String resolveUrl(String replicaJdbcUrl) {
+		if (replicaUrl != null && !replicaUrl.isBlank()) {
+			return replicaUrl;
+		}
+		if (replicaJdbcUrl != null && replicaJdbcUrl.startsWith("jdbc:")) {
+			return "r2dbc:" + replicaJdbcUrl.substring("jdbc:".length());
+		}
+		return url;
+	}
+
+	public boolean usesReplica(String replicaJdbcUrl) {
+		return !resolveUrl(replicaJdbcUrl).equals(url);
+	}
+
+}
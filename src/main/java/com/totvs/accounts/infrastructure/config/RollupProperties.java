@@ -0,0 +1,17 @@
+package com.totvs.accounts.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "accounts.rollup")
+public class RollupProperties {
+
+	private String checkCron = "0 0 3 * * *";
+
+	private boolean autoRepair = false;
+
+}
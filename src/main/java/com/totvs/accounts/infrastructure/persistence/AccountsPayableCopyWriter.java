@@ -0,0 +1,155 @@
+package com.totvs.accounts.infrastructure.persistence;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import com.totvs.accounts.domain.entity.AccountsPayable;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccountsPayableCopyWriter {
+
+	private static final String STAGING_SQL = "CREATE TEMP TABLE IF NOT EXISTS conta_importacao (id BIGINT, "
+			+ "valor DECIMAL(10,2), descricao VARCHAR(255), data_vencimento DATE, data_pagamento DATE, "
+			+ "situacao VARCHAR(50), chave_hash VARCHAR(64)) ON COMMIT DELETE ROWS";
+	private static final String COPY_SQL = "COPY conta_importacao (id, valor, descricao, data_vencimento, "
+			+ "data_pagamento, situacao, chave_hash) FROM STDIN WITH (FORMAT csv)";
+	private static final String INSERT_SQL = "INSERT INTO conta (id, valor, descricao, data_vencimento, data_pagamento, "
+			+ "situacao, chave_hash) SELECT id, valor, descricao, data_vencimento, data_pagamento, situacao, chave_hash "
+			+ "FROM conta_importacao ON CONFLICT (chave_hash) DO NOTHING";
+	private static final String NEXTVAL_SQL = "SELECT nextval('conta_seq') FROM generate_series(1, ?)";
+
+	private final DataSource dataSource;
+
+	/**
+	 * Copia as contas para uma tabela temporária e as insere em {@code conta} ignorando as que já existem pela chave
+	 * natural ({@code chave_hash}). Retorna o número de contas efetivamente inseridas.
+	 */
+	public long copy(List<AccountsPayable> accountsPayable) {
+		if (accountsPayable.isEmpty()) {
+			return 0;
+		}
+		Connection connection = DataSourceUtils.getConnection(dataSource);
+		boolean ownTransaction = false;
+		try {
+			ownTransaction = connection.getAutoCommit();
+			if (ownTransaction) {
+				connection.setAutoCommit(false);
+			}
+			long inserted;
+			try (Statement statement = connection.createStatement()) {
+				statement.execute(STAGING_SQL);
+				CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+				long[] ids = reserveIds(connection, accountsPayable.size());
+				copyManager.copyIn(COPY_SQL, new StringReader(toCsv(accountsPayable, ids)));
+				inserted = statement.executeUpdate(INSERT_SQL);
+				statement.execute("TRUNCATE conta_importacao");
+			}
+			if (ownTransaction) {
+				connection.commit();
+			}
+			return inserted;
+		} catch (SQLException | IOException e) {
+			if (ownTransaction) {
+				rollback(connection);
+			}
+			throw new RuntimeException("Erro ao gravar as contas via COPY: " + e.getMessage(), e);
+		} finally {
+			if (ownTransaction) {
+				restoreAutoCommit(connection);
+			}
+			DataSourceUtils.releaseConnection(connection, dataSource);
+		}
+	}
+
+	/**
+	 * Reserva ids em blocos como o otimizador pooled do Hibernate: cada {@code nextval} devolve o maior id de um bloco
+	 * de {@link AccountsPayable#ID_ALLOCATION_SIZE} ids. Sem isso, o default da coluna consumiria um bloco inteiro por
+	 * linha copiada. Valores menores que o bloco, possíveis só numa sequence recém-criada, são descartados.
+	 */
+	static long[] reserveIds(Connection connection, int count) throws SQLException {
+		int blockSize = AccountsPayable.ID_ALLOCATION_SIZE;
+		long[] ids = new long[count];
+		int reserved = 0;
+		try (PreparedStatement statement = connection.prepareStatement(NEXTVAL_SQL)) {
+			while (reserved < count) {
+				statement.setInt(1, (count - reserved + blockSize - 1) / blockSize);
+				try (ResultSet blocks = statement.executeQuery()) {
+					while (blocks.next()) {
+						long last = blocks.getLong(1);
+						for (long id = last - blockSize + 1; id > 0 && id <= last && reserved < count; id++) {
+							ids[reserved++] = id;
+						}
+					}
+				}
+			}
+		}
+		return ids;
+	}
+
+	private static void rollback(Connection connection) {
+		try {
+			connection.rollback();
+		} catch (SQLException e) {
+			log.warn("Não foi possível desfazer a gravação via COPY: {}", e.getMessage());
+		}
+	}
+
+	private static void restoreAutoCommit(Connection connection) {
+		try {
+			connection.setAutoCommit(true);
+		} catch (SQLException e) {
+			log.warn("Não foi possível restaurar o autocommit da conexão: {}", e.getMessage());
+		}
+	}
+
+	static String toCsv(List<AccountsPayable> accountsPayable, long[] ids) {
+		StringBuilder csv = new StringBuilder(accountsPayable.size() * 80);
+		for (int i = 0; i < accountsPayable.size(); i++) {
+			AccountsPayable account = accountsPayable.get(i);
+			csv.append(ids[i]).append(',');
+			csv.append(account.getAmount().toPlainString()).append(',');
+			appendQuoted(csv, account.getDescription()).append(',');
+			csv.append(account.getDueDate()).append(',');
+			if (account.getPaymentDate() != null) {
+				csv.append(account.getPaymentDate());
+			}
+			csv.append(',');
+			appendQuoted(csv, account.getStatus()).append(',');
+			csv.append(account.getKeyHash() != null ? account.getKeyHash() : account.computeKeyHash()).append('\n');
+		}
+		return csv.toString();
+	}
+
+	static StringBuilder appendQuoted(StringBuilder csv, String value) {
+		if (value == null) {
+			return csv;
+		}
+		csv.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"') {
+				csv.append('"');
+			}
+			csv.append(c);
+		}
+		return csv.append('"');
+	}
+}
@@ -0,0 +1,157 @@
+package com.totvs.accounts.infrastructure.persistence;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import javax.sql.DataSource;
+
+import org.springframework.stereotype.Component;
+
+import com.totvs.accounts.application.service.ExportFormat;
+import com.totvs.accounts.infrastructure.config.ExportProperties;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class AccountsPayableExporter {
+
+	static final String CSV_HEADER = "id,amount,description,duedate,status,paymentdate\n";
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final DataSource dataSource;
+	private final ExportProperties exportProperties;
+
+	public long export(LocalDate dueDate, String description, ExportFormat format, OutputStream outputStream) {
+		boolean hasDescription = description != null && !description.isBlank();
+		try (Connection connection = dataSource.getConnection()) {
+			// O driver do PostgreSQL só usa cursor (respeitando o fetch size) fora do modo autocommit
+			connection.setAutoCommit(false);
+			connection.setReadOnly(true);
+			try (PreparedStatement statement = connection.prepareStatement(query(dueDate != null, hasDescription),
+					ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+				statement.setFetchSize(exportProperties.getFetchSize());
+				int parameter = 1;
+				if (dueDate != null) {
+					statement.setObject(parameter++, dueDate);
+				}
+				if (hasDescription) {
+					statement.setString(parameter, "%" + escapeLike(description) + "%");
+				}
+				try (ResultSet resultSet = statement.executeQuery()) {
+					return write(resultSet, format, outputStream);
+				}
+			} finally {
+				connection.rollback();
+			}
+		} catch (SQLException e) {
+			throw new RuntimeException("Erro ao exportar as contas: " + e.getMessage(), e);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Erro ao enviar a exportação: " + e.getMessage(), e);
+		}
+	}
+
+	static String query(boolean hasDueDate, boolean hasDescription) {
+		StringBuilder sql = new StringBuilder(
+				"SELECT id, valor, descricao, data_vencimento, data_pagamento, situacao FROM conta");
+		if (hasDueDate) {
+			sql.append(" WHERE data_vencimento = ?");
+		}
+		if (hasDescription) {
+			sql.append(hasDueDate ? " AND" : " WHERE").append(" descricao LIKE ? ESCAPE '\\'");
+		}
+		return sql.append(" ORDER BY id").toString();
+	}
+
+	static String escapeLike(String value) {
+		return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+	}
+
+	private long write(ResultSet resultSet, ExportFormat format, OutputStream outputStream)
+			throws SQLException, IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+		StringBuilder line = new StringBuilder(256);
+		int flushEvery = Math.max(1, exportProperties.getFetchSize());
+		long rows = 0;
+		if (format == ExportFormat.CSV) {
+			writer.write(CSV_HEADER);
+		}
+		while (resultSet.next()) {
+			line.setLength(0);
+			if (format == ExportFormat.CSV) {
+				appendCsv(line, resultSet);
+			} else {
+				appendJson(line, resultSet);
+			}
+			writer.append(line);
+			if (++rows == 1 || rows % flushEvery == 0) {
+				writer.flush();
+			}
+		}
+		writer.flush();
+		return rows;
+	}
+
+	static void appendCsv(StringBuilder line, ResultSet resultSet) throws SQLException {
+		line.append(resultSet.getLong(1)).append(',').append(resultSet.getString(2)).append(',');
+		AccountsPayableCopyWriter.appendQuoted(line, resultSet.getString(3)).append(',');
+		line.append(resultSet.getString(4)).append(',');
+		AccountsPayableCopyWriter.appendQuoted(line, resultSet.getString(6)).append(',');
+		String paymentDate = resultSet.getString(5);
+		if (paymentDate != null) {
+			line.append(paymentDate);
+		}
+		line.append('\n');
+	}
+
+	static void appendJson(StringBuilder line, ResultSet resultSet) throws SQLException {
+		line.append("{\"id\":").append(resultSet.getLong(1));
+		line.append(",\"amount\":").append(resultSet.getString(2));
+		line.append(",\"description\":");
+		appendJsonString(line, resultSet.getString(3));
+		line.append(",\"dueDate\":");
+		appendJsonString(line, resultSet.getString(4));
+		line.append(",\"paymentDate\":");
+		appendJsonString(line, resultSet.getString(5));
+		line.append(",\"status\":");
+		appendJsonString(line, resultSet.getString(6));
+		line.append("}\n");
+	}
+
+	private static void appendJsonString(StringBuilder line, String value) {
+		if (value == null) {
+			line.append("null");
+			return;
+		}
+		line.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+			case '"' -> line.append("\\\"");
+			case '\\' -> line.append("\\\\");
+			case '\n' -> line.append("\\n");
+			case '\r' -> line.append("\\r");
+			case '\t' -> line.append("\\t");
+			default -> {
+				if (c < 0x20) {
+					line.append(String.format("\\u%04x", (int) c));
+				} else {
+					line.append(c);
+				}
+			}
+			}
+		}
+		line.append('"');
+	}
+}
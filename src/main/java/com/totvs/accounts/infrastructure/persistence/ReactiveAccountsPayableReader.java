@@ -0,0 +1,132 @@
+package com.totvs.accounts.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import com.totvs.accounts.domain.entity.AccountsPayable;
+import com.totvs.accounts.infrastructure.config.ReactiveReadProperties;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+public class ReactiveAccountsPayableReader implements DisposableBean {
+
+	private static final String SELECT = "SELECT id, valor, descricao, data_vencimento, data_pagamento, situacao, versao "
+			+ "FROM conta";
+
+	// Mesmas propriedades aceitas em sort pelo GET /accountspayable, com a coluna correspondente
+	private static final Map<String, String> SORT_COLUMNS = Map.of("id", "id", "amount", "valor", "description",
+			"descricao", "dueDate", "data_vencimento", "paymentDate", "data_pagamento", "status", "situacao",
+			"version", "versao");
+
+	private final ConnectionFactory connectionFactory;
+	private final DatabaseClient databaseClient;
+
+	@Autowired
+	public ReactiveAccountsPayableReader(ReactiveReadProperties properties,
+			@Value("${accounts.datasource.replica.jdbc-url:}") String replicaJdbcUrl) {
+		this(new ConnectionPool(
+				ConnectionPoolConfiguration.builder(ConnectionFactories.get(options(properties, replicaJdbcUrl)))
+						.maxSize(properties.getMaxPoolSize()).build()));
+	}
+
+	ReactiveAccountsPayableReader(ConnectionFactory connectionFactory) {
+		this.connectionFactory = connectionFactory;
+		this.databaseClient = DatabaseClient.create(connectionFactory);
+	}
+
+	public Flux<AccountsPayable> findAll(LocalDate dueDate, String description, Pageable pageable) {
+		boolean hasDescription = description != null && !description.isBlank();
+		DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(query(dueDate != null, hasDescription,
+				pageable.getSort(), pageable.getOffset(), pageable.getPageSize()));
+		if (dueDate != null) {
+			spec = spec.bind("dueDate", dueDate);
+		}
+		if (hasDescription) {
+			spec = spec.bind("description", "%" + AccountsPayableExporter.escapeLike(description) + "%");
+		}
+		return spec.map(ReactiveAccountsPayableReader::toAccountsPayable).all();
+	}
+
+	public Mono<AccountsPayable> findById(Long id) {
+		return databaseClient.sql(SELECT + " WHERE id = :id").bind("id", id)
+				.map(ReactiveAccountsPayableReader::toAccountsPayable).one();
+	}
+
+	static String query(boolean hasDueDate, boolean hasDescription, Sort sort, long offset, int limit) {
+		StringBuilder sql = new StringBuilder(SELECT);
+		if (hasDueDate) {
+			sql.append(" WHERE data_vencimento = :dueDate");
+		}
+		if (hasDescription) {
+			sql.append(hasDueDate ? " AND" : " WHERE").append(" descricao LIKE :description ESCAPE '\\'");
+		}
+		if (sort.isSorted()) {
+			sql.append(" ORDER BY ");
+			String separator = "";
+			for (Sort.Order order : sort) {
+				String column = SORT_COLUMNS.get(order.getProperty());
+				if (column == null) {
+					throw new IllegalArgumentException("Não é possível ordenar por " + order.getProperty());
+				}
+				sql.append(separator).append(order.isIgnoreCase() ? "lower(" + column + ")" : column)
+						.append(order.isAscending() ? " ASC" : " DESC");
+				if (order.getNullHandling() != Sort.NullHandling.NATIVE) {
+					sql.append(order.getNullHandling() == Sort.NullHandling.NULLS_FIRST ? " NULLS FIRST"
+							: " NULLS LAST");
+				}
+				separator = ", ";
+			}
+		}
+		return sql.append(" LIMIT ").append(limit).append(" OFFSET ").append(offset).toString();
+	}
+
+	private static AccountsPayable toAccountsPayable(Row row, RowMetadata metadata) {
+		AccountsPayable accountsPayable = new AccountsPayable();
+		accountsPayable.setId(row.get(0, Long.class));
+		accountsPayable.setAmount(row.get(1, BigDecimal.class));
+		accountsPayable.setDescription(row.get(2, String.class));
+		accountsPayable.setDueDate(row.get(3, LocalDate.class));
+		accountsPayable.setPaymentDate(row.get(4, LocalDate.class));
+		accountsPayable.setStatus(row.get(5, String.class));
+		accountsPayable.setVersion(row.get(6, Long.class));
+		return accountsPayable;
+	}
+
+	private static ConnectionFactoryOptions options(ReactiveReadProperties properties, String replicaJdbcUrl) {
+		ConnectionFactoryOptions.Builder builder = ConnectionFactoryOptions.parse(properties.resolveUrl(replicaJdbcUrl))
+				.mutate();
+		if (properties.getUsername() != null) {
+			builder.option(ConnectionFactoryOptions.USER, properties.getUsername());
+		}
+		if (properties.getPassword() != null) {
+			builder.option(ConnectionFactoryOptions.PASSWORD, properties.getPassword());
+		}
+		return builder.build();
+	}
+
+	@Override
+	public void destroy() {
+		if (connectionFactory instanceof Disposable disposable) {
+			disposable.dispose();
+		}
+	}
+}
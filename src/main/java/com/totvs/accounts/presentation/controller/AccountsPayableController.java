@@ -1,19 +1,48 @@
 package com.totvs.accounts.presentation.controller;
 
 import com.totvs.accounts.application.factory.AccountsPayableFactory;
+import com.totvs.accounts.application.importjob.ImportJob;
+import com.totvs.accounts.application.pagination.KeysetCursor;
 import com.totvs.accounts.application.service.AccountPayableService;
+import com.totvs.accounts.application.service.AccountsPayableBatchService;
+import com.totvs.accounts.application.service.AccountsPayableDailyTotalService;
+import com.totvs.accounts.application.service.AccountsPayableExportService;
+import com.totvs.accounts.application.service.AccountsPayableImportService;
+import com.totvs.accounts.application.service.AccountsPayableUploadService;
 import com.totvs.accounts.application.service.CsvParserService;
+import com.totvs.accounts.application.service.ExportFormat;
+import com.totvs.accounts.application.service.ImportEngine;
 import com.totvs.accounts.domain.entity.AccountsPayable;
+import com.totvs.accounts.domain.entity.AccountsPayableUpload;
+import com.totvs.accounts.domain.entity.AccountsPayableUploadStatus;
+import com.totvs.accounts.domain.projection.AccountsPayableDashboardRow;
+import com.totvs.accounts.domain.projection.AccountsPayableTotals;
+import com.totvs.accounts.domain.projection.AccountsPayableView;
+import com.totvs.accounts.presentation.dto.AccountsPayableBatchResponseDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableBulkStatusRequestDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableBulkStatusResponseDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableDailyTotalConsistencyResponseDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableDashboardResponseDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableImportJobResponseDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableImportSummaryResponseDto;
 import com.totvs.accounts.presentation.dto.AccountsPayableRequestDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableResponseDto;
 import com.totvs.accounts.presentation.dto.AccountsPayableTotalPaidResponseDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableUploadResponseDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableWindowResponseDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -24,10 +53,13 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.math.BigDecimal;
+import java.io.InputStream;
+import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/accountspayable")
@@ -36,60 +68,233 @@ import java.util.List;
 public class AccountsPayableController {
 
 	private final AccountPayableService accountPayableService;
+	private final AccountsPayableImportService accountsPayableImportService;
+	private final AccountsPayableDailyTotalService accountsPayableDailyTotalService;
+	private final AccountsPayableBatchService accountsPayableBatchService;
+	private final AccountsPayableExportService accountsPayableExportService;
+	private final AccountsPayableUploadService accountsPayableUploadService;
 
 	@GetMapping("/{id}")
-	public ResponseEntity<AccountsPayable> getAccountPayableById(@PathVariable Long id) {
+	public ResponseEntity<AccountsPayableResponseDto> getAccountPayableById(@PathVariable Long id) {
 		log.info("GET /accountspayable/{} chamado", id);
 		AccountsPayable account = accountPayableService.getAccountsPayableById(id);
-		return ResponseEntity.ok(account);
+		return ResponseEntity.ok(AccountsPayableResponseDto.from(account));
 	}
 
 	@GetMapping
-	public ResponseEntity<Page<AccountsPayable>> getAccountsPayable(@RequestParam(required = false) LocalDate dueDate,
-			@RequestParam(required = false) String description, Pageable pageable) {
+	public ResponseEntity<Page<AccountsPayableResponseDto>> getAccountsPayable(@RequestParam(required = false) LocalDate dueDate,
+			@RequestParam(required = false) String description,
+			@PageableDefault(size = 20, sort = { "dueDate", "id" }) Pageable pageable) {
 		log.info("GET /accountspayable chamado com dueDate: {} e description: {}", dueDate, description);
-		Page<AccountsPayable> accounts = accountPayableService.getAccountsPayable(dueDate, description, pageable);
-		return ResponseEntity.ok(accounts);
+		Page<AccountsPayableView> accounts = accountPayableService.getAccountsPayable(dueDate, description, pageable);
+		return ResponseEntity.ok(accounts.map(AccountsPayableResponseDto::from));
+	}
+
+	@GetMapping(params = "mode=keyset")
+	public ResponseEntity<AccountsPayableWindowResponseDto> getAccountsPayableWindow(
+			@RequestParam(required = false) LocalDate dueDate, @RequestParam(required = false) String description,
+			@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size) {
+		log.info("GET /accountspayable?mode=keyset chamado com dueDate: {}, description: {} e cursor: {}", dueDate,
+				description, cursor);
+		Window<AccountsPayableView> window = accountPayableService.getAccountsPayableWindow(dueDate, description, cursor,
+				size);
+		String nextCursor = window.hasNext() ? KeysetCursor.of(window.getContent().get(window.size() - 1)).encode()
+				: null;
+		return ResponseEntity.ok(new AccountsPayableWindowResponseDto(
+				window.getContent().stream().map(AccountsPayableResponseDto::from).toList(), nextCursor, window.hasNext()));
+	}
+
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> exportAccountsPayable(
+			@RequestParam(required = false) LocalDate dueDate, @RequestParam(required = false) String description,
+			@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+		log.info("GET /accountspayable/export chamado com dueDate: {}, description: {} e format: {}", dueDate,
+				description, format);
+		StreamingResponseBody body = outputStream -> accountsPayableExportService.export(dueDate, description, format,
+				outputStream);
+		return ResponseEntity.ok().contentType(MediaType.parseMediaType(format.getContentType()))
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"contas." + format.getExtension() + "\"")
+				.body(body);
 	}
 
 	@GetMapping("/total-paid")
 	public ResponseEntity<AccountsPayableTotalPaidResponseDto> getAccountsPayableTotalPaid(
 			@RequestParam LocalDate startDate, @RequestParam LocalDate endDate) {
 		log.info("GET /accountspayable/total-paid chamado com startDate: {} e endDate: {}", startDate, endDate);
-		BigDecimal totalPaid = accountPayableService.getAccountsPayableTotalPaid(startDate, endDate);
-		AccountsPayableTotalPaidResponseDto responseDto = new AccountsPayableTotalPaidResponseDto(totalPaid);
+		AccountsPayableTotals totals = accountPayableService.getAccountsPayableTotalPaid(startDate, endDate);
+		AccountsPayableTotalPaidResponseDto responseDto = new AccountsPayableTotalPaidResponseDto(totals.total(),
+				totals.count());
 		return ResponseEntity.ok(responseDto);
 	}
 
+	@GetMapping("/dashboard")
+	public ResponseEntity<AccountsPayableDashboardResponseDto> getAccountsPayableDashboard(
+			@RequestParam(required = false) LocalDate startDate, @RequestParam(required = false) LocalDate endDate,
+			@RequestParam(required = false) LocalDate referenceDate) {
+		log.info("GET /accountspayable/dashboard chamado com startDate: {}, endDate: {} e referenceDate: {}",
+				startDate, endDate, referenceDate);
+		LocalDate reference = referenceDate != null ? referenceDate : LocalDate.now();
+		List<AccountsPayableDashboardRow> rows = accountPayableService.getAccountsPayableDashboard(startDate, endDate,
+				reference);
+		return ResponseEntity.ok(AccountsPayableDashboardResponseDto.from(reference, rows));
+	}
+
 	@PostMapping
-	public ResponseEntity<AccountsPayable> createAccountsPayable(
+	public ResponseEntity<AccountsPayableResponseDto> createAccountsPayable(
 			@RequestBody @Valid AccountsPayableRequestDto accountsPayableRequestDto) {
 		log.info("POST /accountspayable chamado com payload: {}", accountsPayableRequestDto);
 		AccountsPayable accountsPayable = AccountsPayableFactory.buildAccountsPayable(accountsPayableRequestDto);
 		AccountsPayable savedAccount = accountPayableService.save(accountsPayable);
-		return ResponseEntity.status(HttpStatus.CREATED).body(savedAccount);
+		return ResponseEntity.status(HttpStatus.CREATED).body(AccountsPayableResponseDto.from(savedAccount));
+	}
+
+	@PostMapping("/batch")
+	public ResponseEntity<AccountsPayableBatchResponseDto> saveAccountsPayableBatch(
+			@RequestBody List<AccountsPayableRequestDto> accountsPayableRequestDtos) {
+		log.info("POST /accountspayable/batch chamado com {} contas",
+				accountsPayableRequestDtos == null ? 0 : accountsPayableRequestDtos.size());
+		return ResponseEntity
+				.ok(AccountsPayableBatchResponseDto.from(accountsPayableBatchService.saveAll(accountsPayableRequestDtos)));
 	}
 
 	@PutMapping("/{id}")
-	public ResponseEntity<AccountsPayable> updateAccountsPayable(@PathVariable Long id,
+	public ResponseEntity<AccountsPayableResponseDto> updateAccountsPayable(@PathVariable Long id,
 			@RequestBody @Valid AccountsPayableRequestDto accountsPayableRequestDto) {
 		log.info("PUT /accountspayable/{} chamado com payload: {}", id, accountsPayableRequestDto);
 		AccountsPayable accountsPayable = AccountsPayableFactory.buildAccountsPayable(accountsPayableRequestDto);
+		accountsPayable.setVersion(accountsPayableRequestDto.getVersion());
 		AccountsPayable updatedAccount = accountPayableService.update(id, accountsPayable);
-		return ResponseEntity.ok(updatedAccount);
+		return ResponseEntity.ok(AccountsPayableResponseDto.from(updatedAccount));
 	}
 
 	@PatchMapping("/{id}/status")
-	public ResponseEntity<AccountsPayable> updateAccountsPayableStatus(@PathVariable Long id,
+	public ResponseEntity<AccountsPayableResponseDto> updateAccountsPayableStatus(@PathVariable Long id,
 			@RequestParam String status) {
 		log.info("PATCH /accountspayable/{}/status chamado com status: {}", id, status);
 		AccountsPayable updatedAccount = accountPayableService.updateAccountsPayableStatus(id, status);
-		return ResponseEntity.ok(updatedAccount);
+		return ResponseEntity.ok(AccountsPayableResponseDto.from(updatedAccount));
+	}
+
+	@PatchMapping(path = "/{id}/status", params = "expectedStatus")
+	public ResponseEntity<AccountsPayableResponseDto> transitionAccountsPayableStatus(@PathVariable Long id,
+			@RequestParam String expectedStatus, @RequestParam String status) {
+		log.info("PATCH /accountspayable/{}/status chamado com expectedStatus: {} e status: {}", id, expectedStatus,
+				status);
+		AccountsPayable updatedAccount = accountPayableService.transitionAccountsPayableStatus(id, expectedStatus,
+				status);
+		return ResponseEntity.ok(AccountsPayableResponseDto.from(updatedAccount));
+	}
+
+	@PatchMapping("/status")
+	public ResponseEntity<AccountsPayableBulkStatusResponseDto> updateAccountsPayableStatus(
+			@RequestBody @Valid AccountsPayableBulkStatusRequestDto request) {
+		log.info("PATCH /accountspayable/status chamado com {} ids, vencimento entre {} e {}, situação atual {} e status: {}",
+				request.getIds() == null ? 0 : request.getIds().size(), request.getStartDate(), request.getEndDate(),
+				request.getCurrentStatus(), request.getStatus());
+		int updated = request.getIds() != null && !request.getIds().isEmpty()
+				? accountPayableService.updateAccountsPayableStatus(request.getIds(), request.getStatus(),
+						request.getPaymentDate())
+				: accountPayableService.updateAccountsPayableStatus(request.getStartDate(), request.getEndDate(),
+						request.getCurrentStatus(), request.getStatus(), request.getPaymentDate());
+		return ResponseEntity.ok(new AccountsPayableBulkStatusResponseDto(updated));
 	}
 
 	@PostMapping("/upload")
-	public ResponseEntity<List<AccountsPayable>> uploadCsv(@RequestParam("file") MultipartFile file) {
-		return ResponseEntity.ok(accountPayableService.save(new CsvParserService().parseCsv(file)));
+	public ResponseEntity<List<AccountsPayableResponseDto>> uploadCsv(@RequestParam("file") MultipartFile file) {
+		return ResponseEntity.ok(accountPayableService.save(new CsvParserService().parseCsv(file)).stream()
+				.map(AccountsPayableResponseDto::from).toList());
+	}
+
+	@PostMapping(path = "/upload", params = "mode=stream")
+	public ResponseEntity<AccountsPayableImportSummaryResponseDto> importCsv(@RequestParam("file") MultipartFile file,
+			@RequestParam(defaultValue = "JPA") ImportEngine engine) {
+		log.info("POST /accountspayable/upload?mode=stream chamado com arquivo: {} e engine: {}",
+				file.getOriginalFilename(), engine);
+		return ResponseEntity.ok(accountsPayableImportService.importCsv(file, engine));
+	}
+
+	@PostMapping(path = "/upload", params = "mode=async")
+	public ResponseEntity<AccountsPayableImportJobResponseDto> submitCsv(@RequestParam("file") MultipartFile file,
+			@RequestParam(defaultValue = "JPA") ImportEngine engine) {
+		log.info("POST /accountspayable/upload?mode=async chamado com arquivo: {} e engine: {}",
+				file.getOriginalFilename(), engine);
+		ImportJob job = accountsPayableImportService.submitCsv(file, engine);
+		return ResponseEntity.accepted().location(URI.create("/accountspayable/imports/" + job.getId()))
+				.body(AccountsPayableImportJobResponseDto.from(job));
+	}
+
+	@GetMapping("/imports/{jobId}")
+	public ResponseEntity<AccountsPayableImportJobResponseDto> getImportJob(@PathVariable UUID jobId) {
+		log.info("GET /accountspayable/imports/{} chamado", jobId);
+		return ResponseEntity.ok(AccountsPayableImportJobResponseDto.from(accountsPayableImportService.getImportJob(jobId)));
+	}
+
+	@PostMapping("/uploads")
+	public ResponseEntity<AccountsPayableUploadResponseDto> initiateUpload(@RequestParam String fileName,
+			@RequestParam(defaultValue = "JPA") ImportEngine engine) {
+		log.info("POST /accountspayable/uploads chamado com arquivo: {} e engine: {}", fileName, engine);
+		AccountsPayableUpload upload = accountsPayableUploadService.initiate(fileName, engine);
+		return ResponseEntity.created(URI.create("/accountspayable/uploads/" + upload.getId()))
+				.body(AccountsPayableUploadResponseDto.from(upload, List.of()));
+	}
+
+	@PutMapping(path = "/uploads/{uploadId}/parts/{partNumber}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+	public ResponseEntity<AccountsPayableUploadResponseDto> uploadPart(@PathVariable UUID uploadId,
+			@PathVariable int partNumber, InputStream content) {
+		long size = accountsPayableUploadService.storePart(uploadId, partNumber, content);
+		log.info("PUT /accountspayable/uploads/{}/parts/{} recebeu {} bytes", uploadId, partNumber, size);
+		return ResponseEntity.ok(uploadResponse(accountsPayableUploadService.getUpload(uploadId)));
+	}
+
+	@PostMapping("/uploads/{uploadId}/complete")
+	public ResponseEntity<AccountsPayableUploadResponseDto> completeUpload(@PathVariable UUID uploadId,
+			@RequestParam int parts) {
+		log.info("POST /accountspayable/uploads/{}/complete chamado com {} partes", uploadId, parts);
+		AccountsPayableUpload upload = accountsPayableUploadService.complete(uploadId, parts);
+		return ResponseEntity.accepted().location(URI.create("/accountspayable/uploads/" + uploadId))
+				.body(AccountsPayableUploadResponseDto.from(upload, List.of()));
+	}
+
+	@PostMapping("/uploads/{uploadId}/resume")
+	public ResponseEntity<AccountsPayableUploadResponseDto> resumeUpload(@PathVariable UUID uploadId) {
+		log.info("POST /accountspayable/uploads/{}/resume chamado", uploadId);
+		AccountsPayableUpload upload = accountsPayableUploadService.resume(uploadId);
+		return ResponseEntity.accepted().location(URI.create("/accountspayable/uploads/" + uploadId))
+				.body(AccountsPayableUploadResponseDto.from(upload, List.of()));
+	}
+
+	@GetMapping("/uploads/{uploadId}")
+	public ResponseEntity<AccountsPayableUploadResponseDto> getUpload(@PathVariable UUID uploadId) {
+		log.info("GET /accountspayable/uploads/{} chamado", uploadId);
+		return ResponseEntity.ok(uploadResponse(accountsPayableUploadService.getUpload(uploadId)));
+	}
+
+	@DeleteMapping("/uploads/{uploadId}")
+	public ResponseEntity<Void> abortUpload(@PathVariable UUID uploadId) {
+		log.info("DELETE /accountspayable/uploads/{} chamado", uploadId);
+		accountsPayableUploadService.abort(uploadId);
+		return ResponseEntity.noContent().build();
+	}
+
+	private AccountsPayableUploadResponseDto uploadResponse(AccountsPayableUpload upload) {
+		List<Integer> receivedParts = upload.getStatus() == AccountsPayableUploadStatus.RECEIVING
+				? accountsPayableUploadService.getReceivedParts(upload.getId())
+				: List.of();
+		return AccountsPayableUploadResponseDto.from(upload, receivedParts);
+	}
+
+	@GetMapping("/daily-totals/consistency")
+	public ResponseEntity<AccountsPayableDailyTotalConsistencyResponseDto> checkDailyTotals() {
+		log.info("GET /accountspayable/daily-totals/consistency chamado");
+		return ResponseEntity.ok(
+				AccountsPayableDailyTotalConsistencyResponseDto.from(accountsPayableDailyTotalService.checkConsistency()));
+	}
+
+	@PostMapping("/daily-totals/rebuild")
+	public ResponseEntity<AccountsPayableDailyTotalConsistencyResponseDto> rebuildDailyTotals() {
+		log.info("POST /accountspayable/daily-totals/rebuild chamado");
+		return ResponseEntity
+				.ok(AccountsPayableDailyTotalConsistencyResponseDto.from(accountsPayableDailyTotalService.rebuild()));
 	}
 
 }
@@ -0,0 +1,46 @@
+package com.totvs.accounts.presentation.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.totvs.accounts.application.service.ReactiveAccountPayableService;
+import com.totvs.accounts.presentation.dto.AccountsPayableResponseDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/reactive/accountspayable")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveAccountsPayableController {
+
+	private final ReactiveAccountPayableService reactiveAccountPayableService;
+
+	@GetMapping("/{id}")
+	public Mono<AccountsPayableResponseDto> getAccountPayableById(@PathVariable Long id) {
+		log.info("GET /reactive/accountspayable/{} chamado", id);
+		return reactiveAccountPayableService.getAccountsPayableById(id).map(AccountsPayableResponseDto::from);
+	}
+
+	@GetMapping(produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+	public Flux<AccountsPayableResponseDto> getAccountsPayable(@RequestParam(required = false) LocalDate dueDate,
+			@RequestParam(required = false) String description,
+			@PageableDefault(size = 20, sort = { "dueDate", "id" }) Pageable pageable) {
+		log.info("GET /reactive/accountspayable chamado com dueDate: {}, description: {} e pageable: {}", dueDate,
+				description, pageable);
+		return reactiveAccountPayableService.getAccountsPayable(dueDate, description, pageable)
+				.map(AccountsPayableResponseDto::from);
+	}
+
+}
@@ -0,0 +1,17 @@
+package com.totvs.accounts.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AccountsPayableBatchItemResponseDto {
+	private int index;
+	private Long id;
+	private AccountsPayableBatchItemStatus status;
+	private String error;
+
+	public static AccountsPayableBatchItemResponseDto failed(int index, Long id, String error) {
+		return new AccountsPayableBatchItemResponseDto(index, id, AccountsPayableBatchItemStatus.FAILED, error);
+	}
+}
@@ -0,0 +1,5 @@
+package com.totvs.accounts.presentation.dto;
+
+public enum AccountsPayableBatchItemStatus {
+	CREATED, UPDATED, FAILED
+}
@@ -0,0 +1,25 @@
+package com.totvs.accounts.presentation.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AccountsPayableBatchResponseDto {
+	private long created;
+	private long updated;
+	private long failed;
+	private List<AccountsPayableBatchItemResponseDto> items;
+
+	public static AccountsPayableBatchResponseDto from(List<AccountsPayableBatchItemResponseDto> items) {
+		return new AccountsPayableBatchResponseDto(count(items, AccountsPayableBatchItemStatus.CREATED),
+				count(items, AccountsPayableBatchItemStatus.UPDATED), count(items, AccountsPayableBatchItemStatus.FAILED),
+				items);
+	}
+
+	private static long count(List<AccountsPayableBatchItemResponseDto> items, AccountsPayableBatchItemStatus status) {
+		return items.stream().filter(item -> item.getStatus() == status).count();
+	}
+}
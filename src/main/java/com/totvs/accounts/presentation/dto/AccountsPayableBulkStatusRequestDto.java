@@ -0,0 +1,27 @@
+package com.totvs.accounts.presentation.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class AccountsPayableBulkStatusRequestDto {
+
+	private List<Long> ids;
+
+	private LocalDate startDate;
+
+	private LocalDate endDate;
+
+	private String currentStatus;
+
+	@NotBlank(message = "O status é obrigatório.")
+	@Size(max = 50, message = "A situação da conta deve ter no máximo 50 caracteres.")
+	private String status;
+
+	private LocalDate paymentDate;
+
+}
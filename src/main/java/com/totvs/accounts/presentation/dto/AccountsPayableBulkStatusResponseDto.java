@@ -0,0 +1,10 @@
+package com.totvs.accounts.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AccountsPayableBulkStatusResponseDto {
+	private int updated;
+}
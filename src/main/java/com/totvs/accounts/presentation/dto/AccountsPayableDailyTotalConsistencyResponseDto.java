@@ -0,0 +1,21 @@
+package com.totvs.accounts.presentation.dto;
+
+import java.util.List;
+
+import com.totvs.accounts.domain.projection.AccountsPayableDailyTotalMismatch;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AccountsPayableDailyTotalConsistencyResponseDto {
+	private boolean consistent;
+	private List<AccountsPayableDailyTotalMismatchDto> mismatches;
+
+	public static AccountsPayableDailyTotalConsistencyResponseDto from(
+			List<AccountsPayableDailyTotalMismatch> mismatches) {
+		return new AccountsPayableDailyTotalConsistencyResponseDto(mismatches.isEmpty(),
+				mismatches.stream().map(AccountsPayableDailyTotalMismatchDto::from).toList());
+	}
+}
@@ -0,0 +1,26 @@
+package com.totvs.accounts.presentation.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.totvs.accounts.domain.projection.AccountsPayableDailyTotalMismatch;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AccountsPayableDailyTotalMismatchDto {
+	private LocalDate dueDate;
+	private String status;
+	private BigDecimal expectedTotal;
+	private long expectedCount;
+	private BigDecimal actualTotal;
+	private long actualCount;
+
+	public static AccountsPayableDailyTotalMismatchDto from(AccountsPayableDailyTotalMismatch mismatch) {
+		return new AccountsPayableDailyTotalMismatchDto(mismatch.getDueDate(), mismatch.getStatus(),
+				mismatch.getExpectedTotal(), mismatch.getExpectedCount(), mismatch.getActualTotal(),
+				mismatch.getActualCount());
+	}
+}
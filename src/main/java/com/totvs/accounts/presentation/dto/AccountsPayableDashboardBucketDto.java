@@ -0,0 +1,14 @@
+package com.totvs.accounts.presentation.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AccountsPayableDashboardBucketDto {
+	private String bucket;
+	private BigDecimal total;
+	private long count;
+}
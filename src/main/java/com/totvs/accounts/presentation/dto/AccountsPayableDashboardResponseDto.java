@@ -0,0 +1,44 @@
+package com.totvs.accounts.presentation.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.totvs.accounts.domain.projection.AccountsPayableDashboardRow;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AccountsPayableDashboardResponseDto {
+	private LocalDate referenceDate;
+	private BigDecimal total;
+	private long count;
+	private List<AccountsPayableDashboardBucketDto> byStatus;
+	private List<AccountsPayableDashboardBucketDto> byDueMonth;
+	private List<AccountsPayableDashboardBucketDto> byAging;
+
+	public static AccountsPayableDashboardResponseDto from(LocalDate referenceDate,
+			List<AccountsPayableDashboardRow> rows) {
+		AccountsPayableDashboardResponseDto dashboard = new AccountsPayableDashboardResponseDto(referenceDate,
+				BigDecimal.ZERO, 0, new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+		for (AccountsPayableDashboardRow row : rows) {
+			BigDecimal total = row.getTotal() == null ? BigDecimal.ZERO : row.getTotal();
+			long count = row.getCount() == null ? 0 : row.getCount();
+			AccountsPayableDashboardBucketDto bucket = new AccountsPayableDashboardBucketDto(row.getBucket(), total,
+					count);
+			switch (row.getDimension()) {
+			case "status" -> dashboard.byStatus.add(bucket);
+			case "dueMonth" -> dashboard.byDueMonth.add(bucket);
+			case "aging" -> dashboard.byAging.add(bucket);
+			default -> {
+				dashboard.total = total;
+				dashboard.count = count;
+			}
+			}
+		}
+		return dashboard;
+	}
+}
@@ -0,0 +1,34 @@
+package com.totvs.accounts.presentation.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.totvs.accounts.application.importjob.ImportJob;
+import com.totvs.accounts.application.importjob.ImportJobStatus;
+import com.totvs.accounts.application.service.ImportEngine;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AccountsPayableImportJobResponseDto {
+	private UUID jobId;
+	private String fileName;
+	private ImportEngine engine;
+	private ImportJobStatus status;
+	private long rowsProcessed;
+	private long rowsFailed;
+	private long rowsDuplicated;
+	private double rowsPerSecond;
+	private Instant createdAt;
+	private Instant startedAt;
+	private Instant finishedAt;
+	private String error;
+
+	public static AccountsPayableImportJobResponseDto from(ImportJob job) {
+		return new AccountsPayableImportJobResponseDto(job.getId(), job.getFileName(), job.getEngine(),
+				job.getStatus(), job.getRowsProcessed(), job.getRowsFailed(), job.getRowsDuplicated(), job.getRowsPerSecond(),
+				job.getCreatedAt(), job.getStartedAt(), job.getFinishedAt(), job.getError());
+	}
+}
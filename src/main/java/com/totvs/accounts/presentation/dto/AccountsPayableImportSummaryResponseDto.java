@@ -0,0 +1,13 @@
+package com.totvs.accounts.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AccountsPayableImportSummaryResponseDto {
+	private long rowsAccepted;
+	private long rowsRejected;
+	private long rowsDuplicated;
+	private long elapsedMillis;
+}
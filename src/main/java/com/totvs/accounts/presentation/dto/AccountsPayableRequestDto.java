@@ -10,6 +10,10 @@ import lombok.Data;
 @Data
 public class AccountsPayableRequestDto {
 
+    private Long id;
+
+    private Long version;
+
     @NotNull(message = "O valor do pagamento é obrigatório.")
     @DecimalMin(value = "0.0", inclusive = false, message = "O valor do pagamento deve ser maior que zero.")
     private BigDecimal amount;
@@ -0,0 +1,36 @@
+package com.totvs.accounts.presentation.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.totvs.accounts.domain.entity.AccountsPayable;
+import com.totvs.accounts.domain.projection.AccountsPayableView;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AccountsPayableResponseDto {
+	private Long id;
+	private BigDecimal amount;
+	private String description;
+	private LocalDate dueDate;
+	private LocalDate paymentDate;
+	private String status;
+	private Long version;
+
+	public static AccountsPayableResponseDto from(AccountsPayable accountsPayable) {
+		if (accountsPayable == null) {
+			return null;
+		}
+		return new AccountsPayableResponseDto(accountsPayable.getId(), accountsPayable.getAmount(),
+				accountsPayable.getDescription(), accountsPayable.getDueDate(), accountsPayable.getPaymentDate(),
+				accountsPayable.getStatus(), accountsPayable.getVersion());
+	}
+
+	public static AccountsPayableResponseDto from(AccountsPayableView view) {
+		return new AccountsPayableResponseDto(view.getId(), view.getAmount(), view.getDescription(),
+				view.getDueDate(), view.getPaymentDate(), view.getStatus(), view.getVersion());
+	}
+}
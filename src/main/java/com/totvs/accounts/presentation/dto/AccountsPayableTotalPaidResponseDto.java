@@ -8,4 +8,5 @@ import java.math.BigDecimal;
 @AllArgsConstructor
 public class AccountsPayableTotalPaidResponseDto {
 	private BigDecimal totalPaid;
+	private long count;
 }
@@ -0,0 +1,37 @@
+package com.totvs.accounts.presentation.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import com.totvs.accounts.application.service.ImportEngine;
+import com.totvs.accounts.domain.entity.AccountsPayableUpload;
+import com.totvs.accounts.domain.entity.AccountsPayableUploadStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AccountsPayableUploadResponseDto {
+	private UUID uploadId;
+	private String fileName;
+	private ImportEngine engine;
+	private AccountsPayableUploadStatus status;
+	private List<Integer> receivedParts;
+	private Long sizeBytes;
+	private long recordsCommitted;
+	private long rowsAccepted;
+	private long rowsRejected;
+	private long rowsDuplicated;
+	private String error;
+	private Instant createdAt;
+	private Instant updatedAt;
+
+	public static AccountsPayableUploadResponseDto from(AccountsPayableUpload upload, List<Integer> receivedParts) {
+		return new AccountsPayableUploadResponseDto(upload.getId(), upload.getFileName(),
+				ImportEngine.valueOf(upload.getEngine()), upload.getStatus(), receivedParts, upload.getSizeBytes(),
+				upload.getRecordNumber(), upload.getRowsAccepted(), upload.getRowsRejected(),
+				upload.getRowsDuplicated(), upload.getError(), upload.getCreatedAt(), upload.getUpdatedAt());
+	}
+}
@@ -0,0 +1,14 @@
+package com.totvs.accounts.presentation.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AccountsPayableWindowResponseDto {
+	private List<AccountsPayableResponseDto> content;
+	private String nextCursor;
+	private boolean hasNext;
+}
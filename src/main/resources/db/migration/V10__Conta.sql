@@ -0,0 +1,15 @@
+CREATE TABLE importacao (
+    id UUID PRIMARY KEY,
+    nome_arquivo VARCHAR(255) NOT NULL,
+    motor VARCHAR(10) NOT NULL,
+    situacao VARCHAR(20) NOT NULL,
+    tamanho_bytes BIGINT,
+    posicao_caractere BIGINT NOT NULL DEFAULT 0,
+    registro BIGINT NOT NULL DEFAULT 0,
+    linhas_aceitas BIGINT NOT NULL DEFAULT 0,
+    linhas_rejeitadas BIGINT NOT NULL DEFAULT 0,
+    linhas_duplicadas BIGINT NOT NULL DEFAULT 0,
+    erro VARCHAR(1000),
+    criado_em TIMESTAMP WITH TIME ZONE NOT NULL,
+    atualizado_em TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,7 @@
+CREATE SEQUENCE conta_seq AS BIGINT INCREMENT BY 50;
+
+SELECT setval('conta_seq', COALESCE((SELECT MAX(id) FROM conta), 0) + 50, false);
+
+ALTER TABLE conta ALTER COLUMN id SET DEFAULT nextval('conta_seq');
+ALTER SEQUENCE conta_seq OWNED BY conta.id;
+DROP SEQUENCE IF EXISTS conta_id_seq;
@@ -0,0 +1 @@
+CREATE INDEX idx_conta_data_vencimento ON conta (data_vencimento) INCLUDE (valor);
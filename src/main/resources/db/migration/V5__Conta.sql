@@ -0,0 +1,3 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_conta_descricao_trgm ON conta USING gin (descricao gin_trgm_ops);
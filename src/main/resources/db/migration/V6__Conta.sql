@@ -0,0 +1,3 @@
+DROP INDEX idx_conta_data_vencimento;
+
+CREATE INDEX idx_conta_data_vencimento_id ON conta (data_vencimento, id) INCLUDE (valor);
@@ -0,0 +1,69 @@
+CREATE TABLE conta_total_diario (
+    data_vencimento DATE NOT NULL,
+    situacao VARCHAR(50) NOT NULL,
+    total NUMERIC(19,2) NOT NULL,
+    quantidade BIGINT NOT NULL,
+    PRIMARY KEY (data_vencimento, situacao)
+);
+
+INSERT INTO conta_total_diario (data_vencimento, situacao, total, quantidade)
+SELECT data_vencimento, situacao, SUM(valor), COUNT(*)
+FROM conta
+GROUP BY data_vencimento, situacao;
+
+CREATE FUNCTION conta_total_diario_atualizar() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO conta_total_diario (data_vencimento, situacao, total, quantidade)
+        SELECT data_vencimento, situacao, SUM(valor), COUNT(*)
+        FROM novas
+        GROUP BY data_vencimento, situacao
+        ORDER BY data_vencimento, situacao
+        ON CONFLICT (data_vencimento, situacao) DO UPDATE
+            SET total = conta_total_diario.total + EXCLUDED.total,
+                quantidade = conta_total_diario.quantidade + EXCLUDED.quantidade;
+    ELSIF TG_OP = 'UPDATE' THEN
+        INSERT INTO conta_total_diario (data_vencimento, situacao, total, quantidade)
+        SELECT data_vencimento, situacao, SUM(valor), SUM(quantidade)
+        FROM (
+            SELECT data_vencimento, situacao, valor, 1 AS quantidade FROM novas
+            UNION ALL
+            SELECT data_vencimento, situacao, -valor, -1 FROM antigas
+        ) delta
+        GROUP BY data_vencimento, situacao
+        HAVING SUM(valor) <> 0 OR SUM(quantidade) <> 0
+        ORDER BY data_vencimento, situacao
+        ON CONFLICT (data_vencimento, situacao) DO UPDATE
+            SET total = conta_total_diario.total + EXCLUDED.total,
+                quantidade = conta_total_diario.quantidade + EXCLUDED.quantidade;
+        DELETE FROM conta_total_diario t
+        USING (SELECT DISTINCT data_vencimento, situacao FROM antigas) a
+        WHERE t.data_vencimento = a.data_vencimento AND t.situacao = a.situacao AND t.quantidade = 0;
+    ELSE
+        INSERT INTO conta_total_diario (data_vencimento, situacao, total, quantidade)
+        SELECT data_vencimento, situacao, -SUM(valor), -COUNT(*)
+        FROM antigas
+        GROUP BY data_vencimento, situacao
+        ORDER BY data_vencimento, situacao
+        ON CONFLICT (data_vencimento, situacao) DO UPDATE
+            SET total = conta_total_diario.total + EXCLUDED.total,
+                quantidade = conta_total_diario.quantidade + EXCLUDED.quantidade;
+        DELETE FROM conta_total_diario t
+        USING (SELECT DISTINCT data_vencimento, situacao FROM antigas) a
+        WHERE t.data_vencimento = a.data_vencimento AND t.situacao = a.situacao AND t.quantidade = 0;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER conta_total_diario_insert
+    AFTER INSERT ON conta REFERENCING NEW TABLE AS novas
+    FOR EACH STATEMENT EXECUTE FUNCTION conta_total_diario_atualizar();
+
+CREATE TRIGGER conta_total_diario_update
+    AFTER UPDATE ON conta REFERENCING OLD TABLE AS antigas NEW TABLE AS novas
+    FOR EACH STATEMENT EXECUTE FUNCTION conta_total_diario_atualizar();
+
+CREATE TRIGGER conta_total_diario_delete
+    AFTER DELETE ON conta REFERENCING OLD TABLE AS antigas
+    FOR EACH STATEMENT EXECUTE FUNCTION conta_total_diario_atualizar();
@@ -0,0 +1,2 @@
+-- Constante no DEFAULT: no PostgreSQL 11+ a coluna é adicionada sem reescrever a tabela
+ALTER TABLE conta ADD COLUMN versao BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,19 @@
+ALTER TABLE conta ADD COLUMN chave_hash VARCHAR(64);
+
+-- A carga da chave não altera valor, vencimento nem situação; o gatilho de totais diários não precisa rodar.
+ALTER TABLE conta DISABLE TRIGGER conta_total_diario_update;
+
+UPDATE conta
+SET chave_hash = encode(sha256(convert_to(
+    descricao || chr(31) || to_char(data_vencimento, 'YYYY-MM-DD') || chr(31) || trim_scale(valor)::text, 'UTF8')), 'hex');
+
+-- Contas já repetidas ficam sem chave: apenas a mais antiga passa a valer para a deduplicação.
+UPDATE conta c
+SET chave_hash = NULL
+FROM conta o
+WHERE o.chave_hash = c.chave_hash
+  AND o.id < c.id;
+
+ALTER TABLE conta ENABLE TRIGGER conta_total_diario_update;
+
+CREATE UNIQUE INDEX ux_conta_chave_hash ON conta (chave_hash);
@@ -0,0 +1,40 @@
+package com.totvs.accounts.application.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+public class KeysetCursorTest {
+
+	@Test
+	public void testEncodeDecodeRoundTrip() {
+		KeysetCursor cursor = new KeysetCursor(LocalDate.of(2025, 3, 15), 123L);
+		assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+	}
+
+	@Test
+	public void testToScrollPosition_NoCursorStartsAtBeginning() {
+		ScrollPosition position = KeysetCursor.toScrollPosition(null);
+		assertTrue(position.isInitial());
+	}
+
+	@Test
+	public void testToScrollPosition_ContinuesAfterCursor() {
+		String token = new KeysetCursor(LocalDate.of(2025, 3, 15), 123L).encode();
+		KeysetScrollPosition position = (KeysetScrollPosition) KeysetCursor.toScrollPosition(token);
+		assertTrue(position.scrollsForward());
+		assertEquals(LocalDate.of(2025, 3, 15), position.getKeys().get("dueDate"));
+		assertEquals(123L, position.getKeys().get("id"));
+	}
+
+	@Test
+	public void testDecode_InvalidCursor() {
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> KeysetCursor.decode("not-a-cursor"));
+		assertEquals("Cursor de paginação inválido: not-a-cursor", exception.getMessage());
+	}
+}
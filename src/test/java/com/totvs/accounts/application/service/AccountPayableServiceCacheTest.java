@@ -0,0 +1,124 @@
+package com.totvs.accounts.application.service;
+
+import static com.totvs.accounts.infrastructure.config.CachingConfig.ACCOUNTS_PAYABLE_CACHE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.totvs.accounts.domain.entity.AccountsPayable;
+import com.totvs.accounts.domain.repository.AccountsPayableDailyTotalRepository;
+import com.totvs.accounts.domain.repository.AccountsPayableRepository;
+
+@SpringJUnitConfig
+public class AccountPayableServiceCacheTest {
+
+	@Configuration
+	@EnableCaching
+	static class Config {
+
+		@Bean
+		CacheManager cacheManager() {
+			return new ConcurrentMapCacheManager(ACCOUNTS_PAYABLE_CACHE);
+		}
+
+		@Bean
+		AccountsPayableRepository accountsPayableRepository() {
+			return mock(AccountsPayableRepository.class);
+		}
+
+		@Bean
+		AccountPayableService accountPayableService(AccountsPayableRepository accountsPayableRepository) {
+			return new AccountPayableService(accountsPayableRepository,
+					mock(AccountsPayableDailyTotalRepository.class));
+		}
+	}
+
+	@Autowired
+	private AccountPayableService accountPayableService;
+
+	@Autowired
+	private AccountsPayableRepository accountsPayableRepository;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@BeforeEach
+	public void setUp() {
+		reset(accountsPayableRepository);
+		cacheManager.getCache(ACCOUNTS_PAYABLE_CACHE).clear();
+		when(accountsPayableRepository.save(any(AccountsPayable.class))).thenAnswer(invocation -> invocation.getArgument(0));
+	}
+
+	private AccountsPayable account(Long id, String status) {
+		AccountsPayable account = new AccountsPayable();
+		account.setId(id);
+		account.setAmount(new BigDecimal("100.00"));
+		account.setDescription("Conta teste");
+		account.setDueDate(LocalDate.of(2025, 1, 1));
+		account.setStatus(status);
+		return account;
+	}
+
+	@Test
+	public void testGetAccountsPayableByIdIsCached() {
+		when(accountsPayableRepository.findById(1L)).thenReturn(Optional.of(account(1L, "PENDENTE")));
+		accountPayableService.getAccountsPayableById(1L);
+		AccountsPayable result = accountPayableService.getAccountsPayableById(1L);
+		assertEquals("PENDENTE", result.getStatus());
+		verify(accountsPayableRepository, times(1)).findById(1L);
+	}
+
+	@Test
+	public void testUpdateAccountsPayableStatusRefreshesEntry() {
+		when(accountsPayableRepository.findById(1L)).thenReturn(Optional.of(account(1L, "PENDENTE")),
+				Optional.of(account(1L, "PENDENTE")));
+		accountPayableService.getAccountsPayableById(1L);
+		accountPayableService.updateAccountsPayableStatus(1L, "PAGO");
+		AccountsPayable result = accountPayableService.getAccountsPayableById(1L);
+		assertEquals("PAGO", result.getStatus());
+		verify(accountsPayableRepository, times(2)).findById(1L);
+	}
+
+	@Test
+	public void testSaveAccountPopulatesEntry() {
+		accountPayableService.save(account(2L, "PENDENTE"));
+		AccountsPayable result = accountPayableService.getAccountsPayableById(2L);
+		assertEquals("Conta teste", result.getDescription());
+		verify(accountsPayableRepository, never()).findById(any());
+	}
+
+	@Test
+	public void testSaveListWithExistingIdsEvictsEntries() {
+		when(accountsPayableRepository.findById(1L)).thenReturn(Optional.of(account(1L, "PENDENTE")));
+		when(accountsPayableRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		accountPayableService.getAccountsPayableById(1L);
+		accountPayableService.save(List.of(account(1L, "PAGO")));
+		accountPayableService.getAccountsPayableById(1L);
+		verify(accountsPayableRepository, times(2)).findById(1L);
+	}
+
+	@Test
+	public void testSaveListOfNewAccountsKeepsEntries() {
+		when(accountsPayableRepository.findById(1L)).thenReturn(Optional.of(account(1L, "PENDENTE")));
+		when(accountsPayableRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		accountPayableService.getAccountsPayableById(1L);
+		accountPayableService.save(List.of(account(null, "PENDENTE")));
+		accountPayableService.getAccountsPayableById(1L);
+		verify(accountsPayableRepository, times(1)).findById(1L);
+	}
+}
@@ -2,10 +2,14 @@ package com.totvs.accounts.application.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -18,12 +22,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import com.totvs.accounts.application.pagination.KeysetCursor;
 import com.totvs.accounts.domain.entity.AccountsPayable;
+import com.totvs.accounts.domain.projection.AccountsPayableDashboardRow;
+import com.totvs.accounts.domain.projection.AccountsPayableTotals;
+import com.totvs.accounts.domain.projection.AccountsPayableView;
+import com.totvs.accounts.domain.repository.AccountsPayableDailyTotalRepository;
 import com.totvs.accounts.domain.repository.AccountsPayableRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,9 +49,16 @@ public class AccountPayableServiceTest {
 	@Mock
 	private AccountsPayableRepository accountsPayableRepository;
 
+	@Mock
+	private AccountsPayableDailyTotalRepository accountsPayableDailyTotalRepository;
+
 	@InjectMocks
 	private AccountPayableService accountPayableService;
 
+	private AccountsPayableView view(AccountsPayable account) {
+		return new SpelAwareProxyProjectionFactory().createProjection(AccountsPayableView.class, account);
+	}
+
 	private AccountsPayable validAccount() {
 		AccountsPayable account = new AccountsPayable();
 		account.setDueDate(LocalDate.now().plusDays(10));
@@ -74,10 +98,36 @@ public class AccountPayableServiceTest {
 		verify(accountsPayableRepository, never()).save(any());
 	}
 
+	@Test
+	public void testValidateAccountsPayableColumnLimits() {
+		AccountsPayable account = validAccount();
+		account.setAmount(new BigDecimal("99999999.99"));
+		account.setDescription("ç".repeat(255));
+		account.setStatus("P".repeat(50));
+		accountPayableService.validateAccountsPayable(account);
+
+		account.setAmount(new BigDecimal("99999999.995"));
+		assertEquals("O valor da conta deve ser no máximo 99999999.99", assertThrows(IllegalArgumentException.class,
+				() -> accountPayableService.validateAccountsPayable(account)).getMessage());
+
+		account.setAmount(BigDecimal.TEN);
+		account.setDescription("ç".repeat(256));
+		assertEquals("A descrição da conta deve ter no máximo 255 caracteres", assertThrows(
+				IllegalArgumentException.class, () -> accountPayableService.validateAccountsPayable(account))
+				.getMessage());
+
+		account.setDescription("Conta de Teste");
+		account.setStatus("P".repeat(51));
+		assertEquals("A situação da conta deve ter no máximo 50 caracteres", assertThrows(
+				IllegalArgumentException.class, () -> accountPayableService.validateAccountsPayable(account))
+				.getMessage());
+	}
+
 	@Test
 	public void testSaveListValidAccounts() {
 		AccountsPayable account1 = validAccount();
 		AccountsPayable account2 = validAccount();
+		account2.setDescription("Outra Conta");
 		List<AccountsPayable> accounts = Arrays.asList(account1, account2);
 		when(accountsPayableRepository.saveAll(accounts)).thenReturn(accounts);
 		List<AccountsPayable> result = accountPayableService.save(accounts);
@@ -85,6 +135,33 @@ public class AccountPayableServiceTest {
 		verify(accountsPayableRepository, times(1)).saveAll(accounts);
 	}
 
+	@Test
+	public void testSaveListSkipsDuplicatedNaturalKeys() {
+		AccountsPayable account1 = validAccount();
+		AccountsPayable repeated = validAccount();
+		repeated.setAmount(new BigDecimal("100.00"));
+		AccountsPayable existing = validAccount();
+		existing.setDescription("Conta Existente");
+		when(accountsPayableRepository.findKeyHashesIn(anyList())).thenReturn(List.of(existing.computeKeyHash()));
+		when(accountsPayableRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		List<AccountsPayable> result = accountPayableService.save(Arrays.asList(account1, repeated, existing));
+
+		assertEquals(List.of(account1), result);
+		assertEquals(account1.computeKeyHash(), account1.getKeyHash());
+	}
+
+	@Test
+	public void testKeyHashOfNormalizesAmountScale() {
+		LocalDate dueDate = LocalDate.of(2025, 1, 10);
+		assertEquals(AccountsPayable.keyHashOf("Aluguel", dueDate, new BigDecimal("100")),
+				AccountsPayable.keyHashOf("Aluguel", dueDate, new BigDecimal("100.00")));
+		assertNotEquals(AccountsPayable.keyHashOf("Aluguel", dueDate, new BigDecimal("100")),
+				AccountsPayable.keyHashOf("Aluguel", dueDate, new BigDecimal("100.01")));
+		assertEquals(64, AccountsPayable.keyHashOf("Aluguel", dueDate, BigDecimal.TEN).length());
+		assertNull(AccountsPayable.keyHashOf(null, dueDate, BigDecimal.TEN));
+	}
+
 	@Test
 	public void testSaveListWithInvalidAccount() {
 		AccountsPayable account1 = validAccount();
@@ -109,7 +186,7 @@ public class AccountPayableServiceTest {
 		updatedAccount.setAmount(BigDecimal.valueOf(200));
 		updatedAccount.setDescription("Atualizado");
 		updatedAccount.setStatus("PAGO");
-		when(accountsPayableRepository.save(any(AccountsPayable.class)))
+		when(accountsPayableRepository.saveAndFlush(any(AccountsPayable.class)))
 				.thenAnswer(invocation -> invocation.getArgument(0));
 		AccountsPayable result = accountPayableService.update(id, updatedAccount);
 		assertEquals(updatedAccount.getDueDate(), result.getDueDate());
@@ -118,7 +195,17 @@ public class AccountPayableServiceTest {
 		assertEquals(updatedAccount.getDescription(), result.getDescription());
 		assertEquals(updatedAccount.getStatus(), result.getStatus());
 		verify(accountsPayableRepository, times(1)).findById(id);
-		verify(accountsPayableRepository, times(1)).save(existingAccount);
+		verify(accountsPayableRepository, times(1)).saveAndFlush(existingAccount);
+	}
+
+	@Test
+	public void testUpdateAccountDuplicateNaturalKey() {
+		Long id = 1L;
+		when(accountsPayableRepository.findById(id)).thenReturn(Optional.of(validAccount()));
+		when(accountsPayableRepository.saveAndFlush(any(AccountsPayable.class)))
+				.thenThrow(new DataIntegrityViolationException("ux_conta_chave_hash"));
+		assertThrows(DataIntegrityViolationException.class,
+				() -> accountPayableService.update(id, validAccount()));
 	}
 
 	@Test
@@ -130,7 +217,7 @@ public class AccountPayableServiceTest {
 				() -> accountPayableService.update(id, updatedAccount));
 		assertEquals("Conta não encontrada", exception.getMessage());
 		verify(accountsPayableRepository, times(1)).findById(id);
-		verify(accountsPayableRepository, never()).save(any());
+		verify(accountsPayableRepository, never()).saveAndFlush(any());
 	}
 
 	@Test
@@ -144,7 +231,20 @@ public class AccountPayableServiceTest {
 				() -> accountPayableService.update(id, updatedAccount));
 		assertEquals("O valor da conta deve ser maior que zero", exception.getMessage());
 		verify(accountsPayableRepository, times(1)).findById(id);
-		verify(accountsPayableRepository, never()).save(any());
+		verify(accountsPayableRepository, never()).saveAndFlush(any());
+	}
+
+	@Test
+	public void testUpdateAccountStaleVersion() {
+		Long id = 1L;
+		AccountsPayable existingAccount = validAccount();
+		existingAccount.setVersion(3L);
+		when(accountsPayableRepository.findById(id)).thenReturn(Optional.of(existingAccount));
+		AccountsPayable updatedAccount = validAccount();
+		updatedAccount.setVersion(2L);
+		assertThrows(ObjectOptimisticLockingFailureException.class,
+				() -> accountPayableService.update(id, updatedAccount));
+		verify(accountsPayableRepository, never()).saveAndFlush(any());
 	}
 
 	@Test
@@ -173,16 +273,124 @@ public class AccountPayableServiceTest {
 		verify(accountsPayableRepository, never()).save(any());
 	}
 
+	@Test
+	public void testTransitionAccountsPayableStatus() {
+		Long id = 1L;
+		AccountsPayable updatedAccount = validAccount();
+		updatedAccount.setStatus("PAGO");
+		when(accountsPayableRepository.updateStatusByIdAndStatus(id, "PENDENTE", "PAGO")).thenReturn(1);
+		when(accountsPayableRepository.findById(id)).thenReturn(Optional.of(updatedAccount));
+		AccountsPayable result = accountPayableService.transitionAccountsPayableStatus(id, "PENDENTE", "PAGO");
+		assertEquals("PAGO", result.getStatus());
+		verify(accountsPayableRepository, never()).save(any());
+	}
+
+	@Test
+	public void testTransitionAccountsPayableStatusConflict() {
+		Long id = 1L;
+		AccountsPayable currentAccount = validAccount();
+		currentAccount.setStatus("CANCELADO");
+		when(accountsPayableRepository.updateStatusByIdAndStatus(id, "PENDENTE", "PAGO")).thenReturn(0);
+		when(accountsPayableRepository.findById(id)).thenReturn(Optional.of(currentAccount));
+		OptimisticLockingFailureException exception = assertThrows(OptimisticLockingFailureException.class,
+				() -> accountPayableService.transitionAccountsPayableStatus(id, "PENDENTE", "PAGO"));
+		assertEquals("A situação da conta (1) é CANCELADO, não PENDENTE", exception.getMessage());
+	}
+
+	@Test
+	public void testTransitionAccountsPayableStatusNotFound() {
+		Long id = 1L;
+		when(accountsPayableRepository.updateStatusByIdAndStatus(id, "PENDENTE", "PAGO")).thenReturn(0);
+		when(accountsPayableRepository.findById(id)).thenReturn(Optional.empty());
+		EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+				() -> accountPayableService.transitionAccountsPayableStatus(id, "PENDENTE", "PAGO"));
+		assertEquals("Conta não encontrada", exception.getMessage());
+	}
+
+	@Test
+	public void testTransitionAccountsPayableStatusBlankExpectedStatus() {
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> accountPayableService.transitionAccountsPayableStatus(1L, " ", "PAGO"));
+		assertEquals("Informe a situação atual esperada da conta", exception.getMessage());
+		verifyNoInteractions(accountsPayableRepository);
+	}
+
+	@Test
+	public void testBulkUpdateStatusByIdsRunsOneStatementPerBatch() {
+		List<Long> ids = new ArrayList<>();
+		for (long id = 1; id <= 2500; id++) {
+			ids.add(id);
+		}
+		ids.add(1L);
+		LocalDate paymentDate = LocalDate.now();
+		when(accountsPayableRepository.updateStatusByIdIn(anyList(), eq("PAGO"), eq(paymentDate)))
+				.thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+		int updated = accountPayableService.updateAccountsPayableStatus(ids, "PAGO", paymentDate);
+		assertEquals(2500, updated);
+		verify(accountsPayableRepository, times(2)).updateStatusByIdIn(argThat(batch -> batch.size() == 1000),
+				eq("PAGO"), eq(paymentDate));
+		verify(accountsPayableRepository, times(1)).updateStatusByIdIn(argThat(batch -> batch.size() == 500),
+				eq("PAGO"), eq(paymentDate));
+		verify(accountsPayableRepository, never()).findById(any());
+	}
+
+	@Test
+	public void testBulkUpdateStatusWithoutIdsOrFilter() {
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> accountPayableService.updateAccountsPayableStatus(null, null, " ", "PAGO", null));
+		assertEquals("Informe os ids ou um filtro por vencimento ou situação", exception.getMessage());
+		verifyNoInteractions(accountsPayableRepository);
+	}
+
+	@Test
+	public void testBulkUpdateStatusBlankStatus() {
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> accountPayableService.updateAccountsPayableStatus(List.of(1L), "", null));
+		assertEquals("O status da conta não pode estar vazio", exception.getMessage());
+		verifyNoInteractions(accountsPayableRepository);
+	}
+
+	@Test
+	public void testBulkUpdateStatusTooLong() {
+		String status = "P".repeat(51);
+		assertEquals("A situação da conta deve ter no máximo 50 caracteres", assertThrows(
+				IllegalArgumentException.class,
+				() -> accountPayableService.updateAccountsPayableStatus(List.of(1L), status, null)).getMessage());
+		assertThrows(IllegalArgumentException.class, () -> accountPayableService
+				.updateAccountsPayableStatus(null, LocalDate.of(2025, 1, 31), "PENDENTE", status, null));
+		assertThrows(IllegalArgumentException.class,
+				() -> accountPayableService.transitionAccountsPayableStatus(1L, "PENDENTE", status));
+		verifyNoInteractions(accountsPayableRepository);
+	}
+
+	@Test
+	public void testBulkUpdateStatusByFilterDefaultsOpenBounds() {
+		LocalDate endDate = LocalDate.now();
+		when(accountsPayableRepository.updateStatusByDueDateBetween(LocalDate.of(1900, 1, 1), endDate, "PENDENTE",
+				"PAGO", endDate)).thenReturn(42);
+		int updated = accountPayableService.updateAccountsPayableStatus(null, endDate, "PENDENTE", "PAGO", endDate);
+		assertEquals(42, updated);
+	}
+
+	@Test
+	public void testBulkUpdateStatusByFilterInvalidDates() {
+		LocalDate startDate = LocalDate.now().plusDays(1);
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> accountPayableService.updateAccountsPayableStatus(startDate, LocalDate.now(), null, "PAGO", null));
+		assertEquals("Data inicial não pode ser maior que a data final", exception.getMessage());
+		verifyNoInteractions(accountsPayableRepository);
+	}
+
 	@Test
 	public void testGetAccountsPayableByDueDateAndDescription() {
 		LocalDate dueDate = LocalDate.now();
 		String description = "Conta";
 		Pageable pageable = PageRequest.of(0, 10);
 		AccountsPayable account = validAccount();
-		Page<AccountsPayable> page = new PageImpl<>(Collections.singletonList(account));
+		Page<AccountsPayableView> page = new PageImpl<>(Collections.singletonList(view(account)));
 		when(accountsPayableRepository.findAccountsPayableByDueDateAndDescriptionContaining(dueDate, description,
 				pageable)).thenReturn(page);
-		Page<AccountsPayable> result = accountPayableService.getAccountsPayable(dueDate, description, pageable);
+		Page<AccountsPayableView> result = accountPayableService.getAccountsPayable(dueDate, description, pageable);
 		assertEquals(1, result.getTotalElements());
 		verify(accountsPayableRepository, times(1)).findAccountsPayableByDueDateAndDescriptionContaining(dueDate,
 				description, pageable);
@@ -193,9 +401,9 @@ public class AccountPayableServiceTest {
 		LocalDate dueDate = LocalDate.now();
 		Pageable pageable = PageRequest.of(0, 10);
 		AccountsPayable account = validAccount();
-		Page<AccountsPayable> page = new PageImpl<>(Collections.singletonList(account));
+		Page<AccountsPayableView> page = new PageImpl<>(Collections.singletonList(view(account)));
 		when(accountsPayableRepository.findAccountsPayableByDueDate(dueDate, pageable)).thenReturn(page);
-		Page<AccountsPayable> result = accountPayableService.getAccountsPayable(dueDate, null, pageable);
+		Page<AccountsPayableView> result = accountPayableService.getAccountsPayable(dueDate, null, pageable);
 		assertEquals(1, result.getTotalElements());
 		verify(accountsPayableRepository, times(1)).findAccountsPayableByDueDate(dueDate, pageable);
 	}
@@ -205,23 +413,73 @@ public class AccountPayableServiceTest {
 		String description = "Conta";
 		Pageable pageable = PageRequest.of(0, 10);
 		AccountsPayable account = validAccount();
-		Page<AccountsPayable> page = new PageImpl<>(Collections.singletonList(account));
+		Page<AccountsPayableView> page = new PageImpl<>(Collections.singletonList(view(account)));
 		when(accountsPayableRepository.findAccountsPayableByDescriptionContaining(description, pageable))
 				.thenReturn(page);
-		Page<AccountsPayable> result = accountPayableService.getAccountsPayable(null, description, pageable);
+		Page<AccountsPayableView> result = accountPayableService.getAccountsPayable(null, description, pageable);
 		assertEquals(1, result.getTotalElements());
 		verify(accountsPayableRepository, times(1)).findAccountsPayableByDescriptionContaining(description, pageable);
 	}
 
+	@Test
+	public void testGetAccountsPayableBlankDescriptionIsIgnored() {
+		LocalDate dueDate = LocalDate.now();
+		Pageable pageable = PageRequest.of(0, 10);
+		Page<AccountsPayableView> page = new PageImpl<>(Collections.singletonList(view(validAccount())));
+		when(accountsPayableRepository.findAccountsPayableByDueDate(dueDate, pageable)).thenReturn(page);
+		when(accountsPayableRepository.findAccountsPayableBy(pageable)).thenReturn(page);
+		accountPayableService.getAccountsPayable(dueDate, "  ", pageable);
+		accountPayableService.getAccountsPayable(null, "", pageable);
+		verify(accountsPayableRepository, times(1)).findAccountsPayableByDueDate(dueDate, pageable);
+		verify(accountsPayableRepository, times(1)).findAccountsPayableBy(pageable);
+		verify(accountsPayableRepository, never()).findAccountsPayableByDescriptionContaining(any(), any());
+		verify(accountsPayableRepository, never()).findAccountsPayableByDueDateAndDescriptionContaining(any(), any(),
+				any());
+	}
+
 	@Test
 	public void testGetAccountsPayableWithoutFilters() {
 		Pageable pageable = PageRequest.of(0, 10);
 		AccountsPayable account = validAccount();
-		Page<AccountsPayable> page = new PageImpl<>(Collections.singletonList(account));
-		when(accountsPayableRepository.findAll(pageable)).thenReturn(page);
-		Page<AccountsPayable> result = accountPayableService.getAccountsPayable(null, null, pageable);
+		Page<AccountsPayableView> page = new PageImpl<>(Collections.singletonList(view(account)));
+		when(accountsPayableRepository.findAccountsPayableBy(pageable)).thenReturn(page);
+		Page<AccountsPayableView> result = accountPayableService.getAccountsPayable(null, null, pageable);
 		assertEquals(1, result.getTotalElements());
-		verify(accountsPayableRepository, times(1)).findAll(pageable);
+		verify(accountsPayableRepository, times(1)).findAccountsPayableBy(pageable);
+	}
+
+	@Test
+	public void testGetAccountsPayableWindowWithoutCursor() {
+		Window<AccountsPayableView> window = Window.from(Collections.singletonList(view(validAccount())),
+				i -> ScrollPosition.keyset());
+		when(accountsPayableRepository.findAccountsPayableBy(ScrollPosition.keyset(), Limit.of(20), KeysetCursor.SORT))
+				.thenReturn(window);
+		Window<AccountsPayableView> result = accountPayableService.getAccountsPayableWindow(null, " ", null, 20);
+		assertEquals(1, result.size());
+		verify(accountsPayableRepository, never()).findAccountsPayableByDescriptionContaining(any(), any(), any(),
+				any());
+	}
+
+	@Test
+	public void testGetAccountsPayableWindowFromCursor() {
+		LocalDate dueDate = LocalDate.of(2025, 1, 1);
+		String cursor = new KeysetCursor(LocalDate.of(2025, 1, 1), 42L).encode();
+		when(accountsPayableRepository.findAccountsPayableByDueDateAndDescriptionContaining(any(), any(), any(), any(),
+				any())).thenReturn(Window.from(Collections.emptyList(), i -> ScrollPosition.keyset()));
+		accountPayableService.getAccountsPayableWindow(dueDate, "Conta", cursor, 10);
+		verify(accountsPayableRepository, times(1)).findAccountsPayableByDueDateAndDescriptionContaining(
+				eq(dueDate), eq("Conta"), argThat(position -> position instanceof KeysetScrollPosition keyset
+						&& keyset.getKeys().get("id").equals(42L)
+						&& keyset.getKeys().get("dueDate").equals(dueDate)),
+				eq(Limit.of(10)), eq(KeysetCursor.SORT));
+	}
+
+	@Test
+	public void testGetAccountsPayableWindowInvalidSize() {
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> accountPayableService.getAccountsPayableWindow(null, null, null, 0));
+		assertEquals("O tamanho da página deve estar entre 1 e 1000", exception.getMessage());
+		verifyNoInteractions(accountsPayableRepository);
 	}
 
 	@Test
@@ -248,25 +506,24 @@ public class AccountPayableServiceTest {
 	public void testGetAccountsPayableTotalPaidValid() {
 		LocalDate startDate = LocalDate.now().minusDays(5);
 		LocalDate endDate = LocalDate.now().plusDays(5);
-		AccountsPayable account1 = validAccount();
-		account1.setAmount(BigDecimal.valueOf(100));
-		AccountsPayable account2 = validAccount();
-		account2.setAmount(BigDecimal.valueOf(200));
-		List<AccountsPayable> accounts = Arrays.asList(account1, account2);
-		when(accountsPayableRepository.findByDueDateBetween(startDate, endDate)).thenReturn(accounts);
-		BigDecimal total = accountPayableService.getAccountsPayableTotalPaid(startDate, endDate);
-		assertEquals(BigDecimal.valueOf(300), total);
-		verify(accountsPayableRepository, times(1)).findByDueDateBetween(startDate, endDate);
+		when(accountsPayableDailyTotalRepository.sumTotalByDueDateBetween(startDate, endDate))
+				.thenReturn(new AccountsPayableTotals(BigDecimal.valueOf(300), 2L));
+		AccountsPayableTotals totals = accountPayableService.getAccountsPayableTotalPaid(startDate, endDate);
+		assertEquals(BigDecimal.valueOf(300), totals.total());
+		assertEquals(2L, totals.count());
+		verify(accountsPayableDailyTotalRepository, times(1)).sumTotalByDueDateBetween(startDate, endDate);
 	}
 
 	@Test
 	public void testGetAccountsPayableTotalPaidNoAccounts() {
 		LocalDate startDate = LocalDate.now().minusDays(5);
 		LocalDate endDate = LocalDate.now().plusDays(5);
-		when(accountsPayableRepository.findByDueDateBetween(startDate, endDate)).thenReturn(Collections.emptyList());
-		BigDecimal total = accountPayableService.getAccountsPayableTotalPaid(startDate, endDate);
-		assertEquals(BigDecimal.ZERO, total);
-		verify(accountsPayableRepository, times(1)).findByDueDateBetween(startDate, endDate);
+		when(accountsPayableDailyTotalRepository.sumTotalByDueDateBetween(startDate, endDate))
+				.thenReturn(new AccountsPayableTotals(null, 0L));
+		AccountsPayableTotals totals = accountPayableService.getAccountsPayableTotalPaid(startDate, endDate);
+		assertEquals(BigDecimal.ZERO, totals.total());
+		assertEquals(0L, totals.count());
+		verify(accountsPayableDailyTotalRepository, times(1)).sumTotalByDueDateBetween(startDate, endDate);
 	}
 
 	@Test
@@ -276,6 +533,26 @@ public class AccountPayableServiceTest {
 		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
 				() -> accountPayableService.getAccountsPayableTotalPaid(startDate, endDate));
 		assertEquals("Data inicial não pode ser maior que a data final", exception.getMessage());
-		verify(accountsPayableRepository, never()).findByDueDateBetween(any(), any());
+		verify(accountsPayableDailyTotalRepository, never()).sumTotalByDueDateBetween(any(), any());
+	}
+
+	@Test
+	public void testGetAccountsPayableDashboardDefaultsToWholeRange() {
+		LocalDate referenceDate = LocalDate.of(2025, 3, 1);
+		when(accountsPayableRepository.summarizeByStatusMonthAndAging(LocalDate.of(1900, 1, 1),
+				LocalDate.of(9999, 12, 31), referenceDate)).thenReturn(Collections.emptyList());
+		List<AccountsPayableDashboardRow> result = accountPayableService.getAccountsPayableDashboard(null, null,
+				referenceDate);
+		assertTrue(result.isEmpty());
+	}
+
+	@Test
+	public void testGetAccountsPayableDashboardInvalidRange() {
+		LocalDate startDate = LocalDate.of(2025, 2, 1);
+		LocalDate endDate = LocalDate.of(2025, 1, 1);
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> accountPayableService.getAccountsPayableDashboard(startDate, endDate, LocalDate.now()));
+		assertEquals("Data inicial não pode ser maior que a data final", exception.getMessage());
+		verifyNoInteractions(accountsPayableRepository);
 	}
-}
\ No newline at end of file
+}
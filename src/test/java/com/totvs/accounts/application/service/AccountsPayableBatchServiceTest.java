@@ -0,0 +1,214 @@
+package com.totvs.accounts.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.totvs.accounts.domain.entity.AccountsPayable;
+import com.totvs.accounts.domain.repository.AccountsPayableRepository;
+import com.totvs.accounts.infrastructure.config.ImportProperties;
+import com.totvs.accounts.presentation.dto.AccountsPayableBatchItemResponseDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableBatchItemStatus;
+import com.totvs.accounts.presentation.dto.AccountsPayableRequestDto;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+public class AccountsPayableBatchServiceTest {
+
+	@Mock
+	private AccountsPayableRepository accountsPayableRepository;
+
+	@Mock
+	private EntityManager entityManager;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	private final AtomicLong sequence = new AtomicLong(100);
+
+	private AccountsPayableBatchService service;
+
+	@BeforeEach
+	public void setUp() {
+		ImportProperties importProperties = new ImportProperties();
+		importProperties.setChunkSize(2);
+		importProperties.setBatchMaxItems(5);
+		service = new AccountsPayableBatchService(new AccountPayableService(accountsPayableRepository, null),
+				accountsPayableRepository, entityManager, transactionTemplate,
+				Validation.buildDefaultValidatorFactory().getValidator(), importProperties);
+	}
+
+	private void runTransactionsInline() {
+		doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+				.when(transactionTemplate).execute(any());
+	}
+
+	private void assignIdsOnSave() {
+		doAnswer(invocation -> {
+			List<AccountsPayable> accounts = invocation.getArgument(0);
+			if (accounts.stream().anyMatch(a -> "Duplicada".equals(a.getDescription()))) {
+				throw new DataIntegrityViolationException("chave duplicada");
+			}
+			if (accounts.stream().anyMatch(a -> "Repetida".equals(a.getDescription()))) {
+				throw new DataIntegrityViolationException(
+						"duplicate key value violates unique constraint \"ux_conta_chave_hash\"");
+			}
+			accounts.stream().filter(a -> a.getId() == null).forEach(a -> a.setId(sequence.getAndIncrement()));
+			return accounts;
+		}).when(accountsPayableRepository).saveAll(anyList());
+	}
+
+	private AccountsPayableRequestDto request(Long id, String description, String amount) {
+		AccountsPayableRequestDto request = new AccountsPayableRequestDto();
+		request.setId(id);
+		request.setDescription(description);
+		request.setAmount(amount == null ? null : new BigDecimal(amount));
+		request.setDueDate(LocalDate.of(2025, 1, 10));
+		request.setStatus("PENDENTE");
+		return request;
+	}
+
+	@Test
+	public void testSaveAll_ReportsPerItemResults() {
+		runTransactionsInline();
+		assignIdsOnSave();
+		AccountsPayable existing = new AccountsPayable();
+		existing.setId(7L);
+		doAnswer(invocation -> List.of(existing)).when(accountsPayableRepository).findAllById(List.of(7L));
+
+		List<AccountsPayableBatchItemResponseDto> results = service.saveAll(List.of(request(null, "Nova", "10.00"),
+				request(null, "", "20.00"), request(7L, "Alterada", "30.00"), request(null, "Outra", null)));
+
+		assertAll("Batch results", () -> assertEquals(4, results.size()),
+				() -> assertEquals(AccountsPayableBatchItemStatus.CREATED, results.get(0).getStatus()),
+				() -> assertEquals(100L, results.get(0).getId()),
+				() -> assertEquals(AccountsPayableBatchItemStatus.FAILED, results.get(1).getStatus()),
+				() -> assertEquals("A descrição é obrigatória.", results.get(1).getError()),
+				() -> assertEquals(AccountsPayableBatchItemStatus.UPDATED, results.get(2).getStatus()),
+				() -> assertEquals(7L, results.get(2).getId()),
+				() -> assertEquals("Alterada", existing.getDescription()),
+				() -> assertEquals(AccountsPayableBatchItemStatus.FAILED, results.get(3).getStatus()),
+				() -> assertEquals("O valor do pagamento é obrigatório.", results.get(3).getError()));
+		verify(accountsPayableRepository, times(1)).saveAll(anyList());
+	}
+
+	@Test
+	public void testSaveAll_UnknownIdFailsOnlyThatItem() {
+		runTransactionsInline();
+		assignIdsOnSave();
+		doAnswer(invocation -> Collections.emptyList()).when(accountsPayableRepository).findAllById(List.of(9L));
+
+		List<AccountsPayableBatchItemResponseDto> results = service
+				.saveAll(List.of(request(9L, "Inexistente", "10.00"), request(null, "Nova", "20.00")));
+
+		assertEquals("Conta de id (9) não foi encontrada!", results.get(0).getError());
+		assertEquals(AccountsPayableBatchItemStatus.CREATED, results.get(1).getStatus());
+	}
+
+	@Test
+	public void testSaveAll_StaleVersionFailsOnlyThatItem() {
+		runTransactionsInline();
+		assignIdsOnSave();
+		AccountsPayable existing = new AccountsPayable();
+		existing.setId(7L);
+		existing.setDescription("Original");
+		existing.setVersion(3L);
+		doAnswer(invocation -> List.of(existing)).when(accountsPayableRepository).findAllById(List.of(7L));
+		AccountsPayableRequestDto stale = request(7L, "Alterada", "30.00");
+		stale.setVersion(2L);
+
+		List<AccountsPayableBatchItemResponseDto> results = service
+				.saveAll(List.of(stale, request(null, "Nova", "20.00")));
+
+		assertAll("Stale version results",
+				() -> assertEquals(AccountsPayableBatchItemStatus.FAILED, results.get(0).getStatus()),
+				() -> assertEquals("A conta foi alterada por outra requisição (versão atual 3)", results.get(0).getError()),
+				() -> assertEquals("Original", existing.getDescription()),
+				() -> assertEquals(AccountsPayableBatchItemStatus.CREATED, results.get(1).getStatus()));
+	}
+
+	@Test
+	public void testSaveAll_FailedChunkFallsBackToSingleItems() {
+		runTransactionsInline();
+		assignIdsOnSave();
+
+		List<AccountsPayableBatchItemResponseDto> results = service.saveAll(
+				List.of(request(null, "Primeira", "10.00"), request(null, "Duplicada", "20.00"),
+						request(null, "Terceira", "30.00")));
+
+		assertAll("Fallback results",
+				() -> assertEquals(AccountsPayableBatchItemStatus.CREATED, results.get(0).getStatus()),
+				() -> assertEquals(AccountsPayableBatchItemStatus.FAILED, results.get(1).getStatus()),
+				() -> assertEquals("Erro ao gravar a conta: chave duplicada", results.get(1).getError()),
+				() -> assertNull(results.get(1).getId()),
+				() -> assertEquals(AccountsPayableBatchItemStatus.CREATED, results.get(2).getStatus()));
+		verify(accountsPayableRepository, times(4)).saveAll(anyList());
+		verify(accountsPayableRepository, never()).findAllById(any());
+	}
+
+	@Test
+	public void testSaveAll_DuplicateNaturalKeyFailsOnlyThatItem() {
+		runTransactionsInline();
+		assignIdsOnSave();
+
+		List<AccountsPayableBatchItemResponseDto> results = service
+				.saveAll(List.of(request(null, "Repetida", "10.00"), request(null, "Nova", "20.00")));
+
+		assertAll("Duplicate key results",
+				() -> assertEquals(AccountsPayableBatchItemStatus.FAILED, results.get(0).getStatus()),
+				() -> assertEquals("Já existe uma conta com a mesma descrição, data de vencimento e valor.",
+						results.get(0).getError()),
+				() -> assertEquals(AccountsPayableBatchItemStatus.CREATED, results.get(1).getStatus()));
+	}
+
+	@Test
+	public void testSaveAll_AllInvalidSkipsDatabase() {
+		List<AccountsPayableBatchItemResponseDto> results = service
+				.saveAll(Arrays.asList(null, request(null, "Sem valor", "0")));
+		assertEquals("A conta não pode ser nula", results.get(0).getError());
+		assertTrue(results.get(1).getError().startsWith("O valor do pagamento deve ser maior que zero."));
+		verifyNoInteractions(transactionTemplate, accountsPayableRepository);
+	}
+
+	@Test
+	public void testSaveAll_RejectsEmptyAndOversizedBatches() {
+		IllegalArgumentException empty = assertThrows(IllegalArgumentException.class, () -> service.saveAll(List.of()));
+		assertEquals("O lote de contas está vazio", empty.getMessage());
+		List<AccountsPayableRequestDto> oversized = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			oversized.add(request(null, "Conta " + i, "1.00"));
+		}
+		IllegalArgumentException tooMany = assertThrows(IllegalArgumentException.class,
+				() -> service.saveAll(oversized));
+		assertEquals("O lote deve conter no máximo 5 contas", tooMany.getMessage());
+		verifyNoInteractions(transactionTemplate);
+	}
+}
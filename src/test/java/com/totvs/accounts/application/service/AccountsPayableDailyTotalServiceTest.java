@@ -0,0 +1,80 @@
+package com.totvs.accounts.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.totvs.accounts.domain.projection.AccountsPayableDailyTotalMismatch;
+import com.totvs.accounts.domain.repository.AccountsPayableDailyTotalRepository;
+import com.totvs.accounts.infrastructure.config.RollupProperties;
+
+@ExtendWith(MockitoExtension.class)
+public class AccountsPayableDailyTotalServiceTest {
+
+	@Mock
+	private AccountsPayableDailyTotalRepository accountsPayableDailyTotalRepository;
+
+	private RollupProperties rollupProperties;
+
+	private AccountsPayableDailyTotalService service;
+
+	@BeforeEach
+	public void setUp() {
+		rollupProperties = new RollupProperties();
+		service = new AccountsPayableDailyTotalService(accountsPayableDailyTotalRepository, rollupProperties);
+	}
+
+	@Test
+	public void testRebuild_Consistent() {
+		when(accountsPayableDailyTotalRepository.findMismatches()).thenReturn(List.of());
+		assertTrue(service.rebuild().isEmpty());
+		verify(accountsPayableDailyTotalRepository).lockAccountsPayable();
+		verify(accountsPayableDailyTotalRepository, never()).deleteAllTotals();
+		verify(accountsPayableDailyTotalRepository, never()).insertTotalsFromAccountsPayable();
+	}
+
+	@Test
+	public void testRebuild_ReplacesTotalsWhenInconsistent() {
+		AccountsPayableDailyTotalMismatch mismatch = mock(AccountsPayableDailyTotalMismatch.class);
+		when(accountsPayableDailyTotalRepository.findMismatches()).thenReturn(List.of(mismatch));
+		assertEquals(List.of(mismatch), service.rebuild());
+		InOrder order = inOrder(accountsPayableDailyTotalRepository);
+		order.verify(accountsPayableDailyTotalRepository).lockAccountsPayable();
+		order.verify(accountsPayableDailyTotalRepository).findMismatches();
+		order.verify(accountsPayableDailyTotalRepository).deleteAllTotals();
+		order.verify(accountsPayableDailyTotalRepository).insertTotalsFromAccountsPayable();
+	}
+
+	@Test
+	public void testVerifyConsistency_OnlyReportsByDefault() {
+		when(accountsPayableDailyTotalRepository.findMismatches())
+				.thenReturn(List.of(mock(AccountsPayableDailyTotalMismatch.class)));
+		service.verifyConsistency();
+		verify(accountsPayableDailyTotalRepository, never()).lockAccountsPayable();
+		verify(accountsPayableDailyTotalRepository, never()).deleteAllTotals();
+	}
+
+	@Test
+	public void testVerifyConsistency_AutoRepair() {
+		rollupProperties.setAutoRepair(true);
+		when(accountsPayableDailyTotalRepository.findMismatches())
+				.thenReturn(List.of(mock(AccountsPayableDailyTotalMismatch.class)));
+		service.verifyConsistency();
+		verify(accountsPayableDailyTotalRepository).lockAccountsPayable();
+		verify(accountsPayableDailyTotalRepository).deleteAllTotals();
+		verify(accountsPayableDailyTotalRepository).insertTotalsFromAccountsPayable();
+	}
+}
@@ -0,0 +1,425 @@
+package com.totvs.accounts.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.totvs.accounts.application.importjob.ImportCheckpoint;
+import com.totvs.accounts.application.importjob.ImportJob;
+import com.totvs.accounts.application.importjob.ImportJobRegistry;
+import com.totvs.accounts.application.importjob.ImportJobStatus;
+import com.totvs.accounts.domain.entity.AccountsPayable;
+import com.totvs.accounts.infrastructure.config.CsvParsePool;
+import com.totvs.accounts.infrastructure.config.ImportProperties;
+import com.totvs.accounts.infrastructure.config.ImportTaskExecutor;
+import com.totvs.accounts.infrastructure.persistence.AccountsPayableCopyWriter;
+import com.totvs.accounts.presentation.dto.AccountsPayableImportSummaryResponseDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+public class AccountsPayableImportServiceTest {
+
+	@Mock
+	private AccountPayableService accountPayableService;
+
+	@Mock
+	private EntityManager entityManager;
+
+	@Mock
+	private AccountsPayableCopyWriter accountsPayableCopyWriter;
+
+	@Mock
+	private ImportTaskExecutor importTaskExecutor;
+
+	@TempDir
+	private Path spoolDir;
+
+	private ImportJobRegistry importJobRegistry;
+
+	private ImportProperties importProperties;
+
+	private MeterRegistry meterRegistry;
+
+	private AccountsPayableImportService importService;
+
+	@BeforeEach
+	public void setUp() {
+		importProperties = new ImportProperties();
+		importProperties.setChunkSize(2);
+		importProperties.setCopyChunkSize(3);
+		importProperties.setSpoolDir(spoolDir);
+		importProperties.setParseParallelism(1);
+		meterRegistry = new SimpleMeterRegistry();
+		importJobRegistry = new ImportJobRegistry(importProperties);
+		importService = newImportService();
+	}
+
+	private AccountsPayableImportService newImportService() {
+		return new AccountsPayableImportService(accountPayableService, entityManager, importProperties,
+				accountsPayableCopyWriter, meterRegistry, importJobRegistry, importTaskExecutor,
+				new CsvParsePool(importProperties));
+	}
+
+	private MultipartFile csv(String content) {
+		return new MockMultipartFile("file", "test.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testImportCsv_WritesInChunks() {
+		List<Integer> chunkSizes = new ArrayList<>();
+		doAnswer(invocation -> {
+			chunkSizes.add(invocation.<List<AccountsPayable>>getArgument(0).size());
+			return invocation.getArgument(0);
+		}).when(accountPayableService).save(anyList());
+		MultipartFile file = csv("amount,description,duedate,status\n" + "100,Conta 1,2025-01-01,PENDENTE\n"
+				+ "200,Conta 2,2025-01-02,PENDENTE\n" + "300,Conta 3,2025-01-03,PENDENTE\n");
+
+		AccountsPayableImportSummaryResponseDto summary = importService.importCsv(file, ImportEngine.JPA);
+
+		assertEquals(3, summary.getRowsAccepted());
+		assertEquals(0, summary.getRowsRejected());
+		assertEquals(List.of(2, 1), chunkSizes);
+		verify(entityManager, times(2)).clear();
+	}
+
+	@Test
+	public void testImportCsv_CopyEngineBypassesJpa() {
+		List<Integer> chunkSizes = new ArrayList<>();
+		doAnswer(invocation -> {
+			List<AccountsPayable> chunk = invocation.getArgument(0);
+			chunkSizes.add(chunk.size());
+			return (long) chunk.size();
+		}).when(accountsPayableCopyWriter).copy(anyList());
+		MultipartFile file = csv("amount,description,duedate,status\n" + "100,Conta 1,2025-01-01,PENDENTE\n"
+				+ "200,Conta 2,2025-01-02,PENDENTE\n" + "300,Conta 3,2025-01-03,PENDENTE\n"
+				+ "400,Conta 4,2025-01-04,PENDENTE\n");
+
+		AccountsPayableImportSummaryResponseDto summary = importService.importCsv(file, ImportEngine.COPY);
+
+		assertEquals(4, summary.getRowsAccepted());
+		assertEquals(List.of(3, 1), chunkSizes);
+		verify(accountPayableService, times(4)).validateAccountsPayable(any(AccountsPayable.class));
+		verify(accountPayableService, never()).save(anyList());
+		verifyNoInteractions(entityManager);
+	}
+
+	@Test
+	public void testImportCsv_SkipsDuplicatesInFileAndDatabase() {
+		importProperties.setChunkSize(10);
+		List<String> saved = new ArrayList<>();
+		doAnswer(invocation -> {
+			List<AccountsPayable> chunk = invocation.getArgument(0);
+			chunk.forEach(a -> saved.add(a.getDescription()));
+			return chunk.stream().filter(a -> !a.getDescription().equals("Ja gravada")).toList();
+		}).when(accountPayableService).save(anyList());
+		MultipartFile file = csv("amount,description,duedate,status\n" + "100,Conta 1,2025-01-01,PENDENTE\n"
+				+ "100.00,Conta 1,2025-01-01,PAGO\n" + "100,Conta 1,2025-01-02,PENDENTE\n"
+				+ "50,Ja gravada,2025-01-01,PENDENTE\n");
+
+		AccountsPayableImportSummaryResponseDto summary = importService.importCsv(file, ImportEngine.JPA);
+
+		assertEquals(2, summary.getRowsAccepted());
+		assertEquals(0, summary.getRowsRejected());
+		assertEquals(2, summary.getRowsDuplicated());
+		assertEquals(List.of("Conta 1", "Conta 1", "Ja gravada"), saved);
+		assertEquals(2.0, meterRegistry.find("accounts.import.rows").tags("engine", "JPA", "result", "duplicated")
+				.counter().count());
+	}
+
+	@Test
+	public void testImportCsv_RetriesRowByRowWhenAnotherWriterInsertsTheSameKey() {
+		importProperties.setChunkSize(10);
+		DataIntegrityViolationException conflict = new DataIntegrityViolationException("conflito",
+				new RuntimeException("duplicate key value violates unique constraint \"ux_conta_chave_hash\""));
+		List<Long> retriedIds = new ArrayList<>();
+		doAnswer(invocation -> {
+			List<AccountsPayable> chunk = invocation.getArgument(0);
+			if (chunk.size() > 1) {
+				chunk.forEach(account -> account.setId(99L));
+				throw conflict;
+			}
+			retriedIds.add(chunk.get(0).getId());
+			if (chunk.get(0).getDescription().equals("Conta 2")) {
+				throw conflict;
+			}
+			return chunk;
+		}).when(accountPayableService).save(anyList());
+		MultipartFile file = csv("amount,description,duedate,status\n" + "100,Conta 1,2025-01-01,PENDENTE\n"
+				+ "200,Conta 2,2025-01-02,PENDENTE\n" + "300,Conta 3,2025-01-03,PENDENTE\n");
+
+		AccountsPayableImportSummaryResponseDto summary = importService.importCsv(file, ImportEngine.JPA);
+
+		assertEquals(2, summary.getRowsAccepted());
+		assertEquals(1, summary.getRowsDuplicated());
+		assertEquals(Arrays.asList(null, null, null), retriedIds);
+		verify(accountPayableService, times(4)).save(anyList());
+	}
+
+	@Test
+	public void testImportCsv_OtherIntegrityViolationsAreNotDuplicates() {
+		when(accountPayableService.save(anyList()))
+				.thenThrow(new DataIntegrityViolationException("conflito", new RuntimeException("fk_conta")));
+		MultipartFile file = csv("amount,description,duedate,status\n" + "100,Conta 1,2025-01-01,PENDENTE\n");
+
+		assertThrows(DataIntegrityViolationException.class, () -> importService.importCsv(file, ImportEngine.JPA));
+		verify(accountPayableService, times(1)).save(anyList());
+	}
+
+	@Test
+	public void testImportCsv_CopyEngineCountsConflictsAsDuplicates() {
+		when(accountsPayableCopyWriter.copy(anyList())).thenReturn(1L);
+		MultipartFile file = csv("amount,description,duedate,status\n" + "100,Conta 1,2025-01-01,PENDENTE\n"
+				+ "200,Conta 2,2025-01-02,PENDENTE\n");
+
+		AccountsPayableImportSummaryResponseDto summary = importService.importCsv(file, ImportEngine.COPY);
+
+		assertEquals(1, summary.getRowsAccepted());
+		assertEquals(1, summary.getRowsDuplicated());
+	}
+
+	@Test
+	public void testImportCsv_CountsParseAndValidationRejections() {
+		doAnswer(invocation -> {
+			AccountsPayable account = invocation.getArgument(0);
+			if (account.getAmount().signum() <= 0) {
+				throw new IllegalArgumentException("O valor da conta deve ser maior que zero");
+			}
+			return null;
+		}).when(accountPayableService).validateAccountsPayable(any(AccountsPayable.class));
+		when(accountPayableService.save(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+		MultipartFile file = csv("amount,description,duedate,status\n" + "100,Valida,2025-01-01,PENDENTE\n"
+				+ "abc,Valor invalido,2025-01-01,PENDENTE\n" + "-10,Valor negativo,2025-01-01,PENDENTE\n");
+
+		AccountsPayableImportSummaryResponseDto summary = importService.importCsv(file, ImportEngine.JPA);
+
+		assertEquals(1, summary.getRowsAccepted());
+		assertEquals(2, summary.getRowsRejected());
+		verify(accountPayableService, times(1)).save(anyList());
+	}
+
+	@Test
+	public void testImportCsv_RecordsRowAndUploadMetrics() {
+		when(accountPayableService.save(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+		MultipartFile file = csv("amount,description,duedate,status\n" + "100,Conta 1,2025-01-01,PENDENTE\n"
+				+ "200,Conta 2,2025-01-02,PENDENTE\n" + "abc,Invalida,2025-01-01,PENDENTE\n");
+
+		importService.importCsv(file, ImportEngine.JPA);
+
+		assertEquals(2.0,
+				meterRegistry.find("accounts.import.rows").tags("engine", "JPA", "result", "accepted").counter().count());
+		assertEquals(1.0,
+				meterRegistry.find("accounts.import.rows").tags("engine", "JPA", "result", "rejected").counter().count());
+		assertEquals(file.getSize(),
+				(long) meterRegistry.find("accounts.import.upload.size").tag("engine", "JPA").summary().totalAmount());
+	}
+
+	@Test
+	public void testSubmitCsv_ParallelParsingKeepsOrder() {
+		importProperties.setChunkSize(5000);
+		importProperties.setParseParallelism(4);
+		importService = newImportService();
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(importTaskExecutor).execute(any(Runnable.class));
+		List<String> descriptions = new ArrayList<>();
+		doAnswer(invocation -> {
+			invocation.<List<AccountsPayable>>getArgument(0).forEach(a -> descriptions.add(a.getDescription()));
+			return invocation.getArgument(0);
+		}).when(accountPayableService).save(anyList());
+		StringBuilder content = new StringBuilder("amount,description,duedate,status\n");
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 4500; i++) {
+			content.append(i % 1000 == 0 ? "abc" : "100").append(",Conta ").append(i).append(",2025-01-01,PENDENTE\n");
+			if (i % 1000 != 0) {
+				expected.add("Conta " + i);
+			}
+		}
+
+		ImportJob job = importService.submitCsv(csv(content.toString()), ImportEngine.JPA);
+
+		assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+		assertEquals(4495, job.getRowsProcessed());
+		assertEquals(5, job.getRowsFailed());
+		assertEquals(expected, descriptions);
+	}
+
+	@Test
+	public void testImportCsv_NoValidRows() {
+		MultipartFile file = csv("amount,description,duedate,status\n" + "abc,Invalida,2025-01-01,PENDENTE\n");
+
+		AccountsPayableImportSummaryResponseDto summary = importService.importCsv(file, ImportEngine.JPA);
+
+		assertEquals(0, summary.getRowsAccepted());
+		assertEquals(1, summary.getRowsRejected());
+		verify(accountPayableService, never()).save(anyList());
+		verify(entityManager, never()).clear();
+	}
+
+	@Test
+	public void testImportCsv_SaveFailurePropagates() {
+		when(accountPayableService.save(anyList())).thenThrow(new RuntimeException("Falha no banco"));
+		MultipartFile file = csv("amount,description,duedate,status\n" + "100,Conta,2025-01-01,PENDENTE\n");
+
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> importService.importCsv(file, ImportEngine.JPA));
+		assertEquals("Falha no banco", exception.getMessage());
+		verify(accountPayableService, never()).save(any(AccountsPayable.class));
+	}
+
+	@Test
+	public void testImportFile_ResumesFromCheckpointAndReportsProgress() throws IOException {
+		List<String> saved = new ArrayList<>();
+		doAnswer(invocation -> {
+			List<AccountsPayable> chunk = invocation.getArgument(0);
+			chunk.forEach(a -> saved.add(a.getDescription()));
+			return chunk;
+		}).when(accountPayableService).save(anyList());
+		Path file = spoolDir.resolve("upload.csv");
+		Files.writeString(file, "amount,description,duedate,status\n" + "100,Conta 1,2025-01-01,PENDENTE\n"
+				+ "200,Conta 2,2025-01-02,PENDENTE\n" + "abc,Invalida,2025-01-01,PENDENTE\n"
+				+ "300,Conta 3,2025-01-03,PENDENTE\n" + "400,Conta 4,2025-01-04,PENDENTE\n");
+		List<ImportCheckpoint> checkpoints = new ArrayList<>();
+
+		importService.importFile(new ImportJob("upload.csv", ImportEngine.JPA), file, ImportCheckpoint.START,
+				checkpoints::add);
+
+		assertEquals(List.of("Conta 1", "Conta 2", "Conta 3", "Conta 4"), saved);
+		assertEquals(new ImportCheckpoint(66, 2, 2, 0, 0), checkpoints.get(0));
+		ImportCheckpoint last = checkpoints.get(checkpoints.size() - 1);
+		assertEquals(5, last.recordNumber());
+		assertEquals(4, last.rowsAccepted());
+		assertEquals(1, last.rowsRejected());
+
+		saved.clear();
+		checkpoints.clear();
+		ImportJob resumed = new ImportJob("upload.csv", ImportEngine.JPA);
+		importService.importFile(resumed, file, new ImportCheckpoint(66, 2, 2, 0, 0), checkpoints::add);
+
+		assertEquals(List.of("Conta 3", "Conta 4"), saved);
+		assertEquals(4, resumed.getRowsProcessed());
+		assertEquals(1, resumed.getRowsFailed());
+		assertEquals(new ImportCheckpoint(last.characterOffset(), 5, 4, 1, 0),
+				checkpoints.get(checkpoints.size() - 1));
+	}
+
+	@Test
+	public void testSubmitCsv_RunsJobOnExecutor() throws IOException {
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(importTaskExecutor).execute(any(Runnable.class));
+		when(accountPayableService.save(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+		MultipartFile file = csv("amount,description,duedate,status\n" + "100,Conta 1,2025-01-01,PENDENTE\n"
+				+ "200,Conta 2,2025-01-02,PENDENTE\n" + "abc,Invalida,2025-01-01,PENDENTE\n");
+
+		ImportJob job = importService.submitCsv(file, ImportEngine.JPA);
+
+		assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+		assertEquals(2, job.getRowsProcessed());
+		assertEquals(1, job.getRowsFailed());
+		assertSame(job, importService.getImportJob(job.getId()));
+		verify(accountPayableService, times(1)).save(anyList());
+		try (var spooled = Files.list(spoolDir)) {
+			assertEquals(0, spooled.count());
+		}
+	}
+
+	@Test
+	public void testSubmitCsv_MappedParseReadsSpooledFile() throws IOException {
+		importProperties.setMappedParse(true);
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(importTaskExecutor).execute(any(Runnable.class));
+		when(accountsPayableCopyWriter.copy(anyList()))
+				.thenAnswer(invocation -> (long) invocation.<List<?>>getArgument(0).size());
+		MultipartFile file = csv("amount,description,duedate,status\r\n" + "100,\"Conta, 1\",2025-01-01,PENDENTE\r\n"
+				+ "abc,Invalida,2025-01-01,PENDENTE\r\n" + "200,Conta 2,2025-01-02,PENDENTE\r\n");
+
+		ImportJob job = importService.submitCsv(file, ImportEngine.COPY);
+
+		assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+		assertEquals(2, job.getRowsProcessed());
+		assertEquals(1, job.getRowsFailed());
+		try (var spooled = Files.list(spoolDir)) {
+			assertEquals(0, spooled.count());
+		}
+	}
+
+	@Test
+	public void testSubmitCsv_JobIsQueuedUntilExecuted() {
+		MultipartFile file = csv("amount,description,duedate,status\n" + "100,Conta 1,2025-01-01,PENDENTE\n");
+
+		ImportJob job = importService.submitCsv(file, ImportEngine.COPY);
+
+		assertEquals(ImportJobStatus.QUEUED, job.getStatus());
+		assertEquals(ImportEngine.COPY, job.getEngine());
+		verify(importTaskExecutor, times(1)).execute(any(Runnable.class));
+		verifyNoInteractions(accountsPayableCopyWriter);
+	}
+
+	@Test
+	public void testSubmitCsv_FailureMarksJobAsFailed() {
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(importTaskExecutor).execute(any(Runnable.class));
+		when(accountPayableService.save(anyList())).thenThrow(new RuntimeException("Falha no banco"));
+		MultipartFile file = csv("amount,description,duedate,status\n" + "100,Conta,2025-01-01,PENDENTE\n");
+
+		ImportJob job = importService.submitCsv(file, ImportEngine.JPA);
+
+		assertEquals(ImportJobStatus.FAILED, job.getStatus());
+		assertEquals("Falha no banco", job.getError());
+		assertNotNull(job.getFinishedAt());
+	}
+
+	@Test
+	public void testSubmitCsv_QueueFullRemovesJob() throws IOException {
+		doThrow(new TaskRejectedException("Fila cheia")).when(importTaskExecutor).execute(any(Runnable.class));
+		MultipartFile file = csv("amount,description,duedate,status\n" + "100,Conta,2025-01-01,PENDENTE\n");
+
+		assertThrows(TaskRejectedException.class, () -> importService.submitCsv(file, ImportEngine.JPA));
+		try (var spooled = Files.list(spoolDir)) {
+			assertEquals(0, spooled.count());
+		}
+	}
+
+	@Test
+	public void testSubmitCsv_InvalidFileIsRejectedBeforeQueueing() {
+		MultipartFile file = new MockMultipartFile("file", "test.json", "application/json", "data".getBytes());
+
+		assertThrows(IllegalArgumentException.class, () -> importService.submitCsv(file, ImportEngine.JPA));
+		verifyNoInteractions(importTaskExecutor);
+	}
+
+	@Test
+	public void testGetImportJob_NotFound() {
+		assertThrows(EntityNotFoundException.class, () -> importService.getImportJob(UUID.randomUUID()));
+	}
+}
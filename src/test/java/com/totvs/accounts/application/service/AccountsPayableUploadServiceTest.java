@@ -0,0 +1,389 @@
+package com.totvs.accounts.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import com.totvs.accounts.application.importjob.ImportCheckpoint;
+import com.totvs.accounts.application.importjob.ImportJob;
+import com.totvs.accounts.domain.entity.AccountsPayableUpload;
+import com.totvs.accounts.domain.entity.AccountsPayableUploadStatus;
+import com.totvs.accounts.domain.exception.InvalidUploadStateException;
+import com.totvs.accounts.domain.repository.AccountsPayableUploadRepository;
+import com.totvs.accounts.infrastructure.config.ImportProperties;
+import com.totvs.accounts.infrastructure.config.ImportTaskExecutor;
+
+@ExtendWith(MockitoExtension.class)
+public class AccountsPayableUploadServiceTest {
+
+	@Mock
+	private AccountsPayableUploadRepository accountsPayableUploadRepository;
+
+	@Mock
+	private AccountsPayableImportService accountsPayableImportService;
+
+	@Mock
+	private ImportTaskExecutor importTaskExecutor;
+
+	@TempDir
+	private Path spoolDir;
+
+	private ImportProperties importProperties;
+
+	private AccountsPayableUploadService uploadService;
+
+	private AccountsPayableUpload upload;
+
+	private Instant updatedAt;
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		importProperties = new ImportProperties();
+		importProperties.setSpoolDir(spoolDir);
+		uploadService = new AccountsPayableUploadService(accountsPayableUploadRepository, accountsPayableImportService,
+				importProperties, importTaskExecutor);
+		upload = new AccountsPayableUpload("contas.csv", ImportEngine.COPY.name());
+		Files.createDirectories(uploadDir());
+	}
+
+	private Path uploadDir() {
+		return spoolDir.resolve("uploads").resolve(upload.getId().toString());
+	}
+
+	private void storePart(int partNumber, String content) {
+		uploadService.storePart(upload.getId(), partNumber,
+				new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private void runTasksInline() {
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(importTaskExecutor).execute(any(Runnable.class));
+	}
+
+	private void claimSucceeds(boolean runs) {
+		when(accountsPayableUploadRepository.updateStatusIf(eq(upload.getId()),
+				eq(AccountsPayableUploadStatus.RECEIVING), eq(AccountsPayableUploadStatus.IMPORTING), anyLong(),
+				any(Instant.class))).thenAnswer(invocation -> claim(invocation.getArgument(4)));
+		if (runs) {
+			trackUpdatedAt();
+		}
+	}
+
+	private void resumeSucceeds() {
+		when(accountsPayableUploadRepository.updateStatusIfStopped(eq(upload.getId()),
+				eq(AccountsPayableUploadStatus.FAILED), eq(AccountsPayableUploadStatus.IMPORTING), any(Instant.class),
+				any(Instant.class))).thenAnswer(invocation -> claim(invocation.getArgument(4)));
+	}
+
+	// Simula a coluna atualizado_em: as gravações da execução só valem com o instante da gravação anterior
+	private void trackUpdatedAt() {
+		lenient().when(accountsPayableUploadRepository.renewClaim(eq(upload.getId()), any(Instant.class),
+				any(Instant.class))).thenAnswer(invocation -> fenced(invocation.getArgument(1), invocation.getArgument(2)));
+		lenient().when(accountsPayableUploadRepository.updateCheckpoint(eq(upload.getId()), anyLong(), anyLong(),
+				anyLong(), anyLong(), anyLong(), any(Instant.class), any(Instant.class)))
+				.thenAnswer(invocation -> fenced(invocation.getArgument(6), invocation.getArgument(7)));
+		lenient().when(accountsPayableUploadRepository.updateStatusIfClaimed(eq(upload.getId()),
+				any(AccountsPayableUploadStatus.class), any(), any(Instant.class), any(Instant.class)))
+				.thenAnswer(invocation -> fenced(invocation.getArgument(3), invocation.getArgument(4)));
+	}
+
+	private int claim(Instant claimedAt) {
+		updatedAt = claimedAt;
+		return 1;
+	}
+
+	private int fenced(Instant claimedAt, Instant next) {
+		if (!claimedAt.equals(updatedAt)) {
+			return 0;
+		}
+		updatedAt = next;
+		return 1;
+	}
+
+	@Test
+	public void testInitiate_CreatesUploadDirectory() {
+		when(accountsPayableUploadRepository.save(any(AccountsPayableUpload.class)))
+				.thenAnswer(invocation -> invocation.getArgument(0));
+
+		AccountsPayableUpload created = uploadService.initiate("fornecedor.csv", ImportEngine.JPA);
+
+		assertEquals(AccountsPayableUploadStatus.RECEIVING, created.getStatus());
+		assertEquals("JPA", created.getEngine());
+		assertTrue(Files.isDirectory(spoolDir.resolve("uploads").resolve(created.getId().toString())));
+	}
+
+	@Test
+	public void testInitiate_RejectsNonCsvFile() {
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> uploadService.initiate("contas.json", ImportEngine.JPA));
+		assertEquals("Formato de arquivo inválido. Por favor, envie um arquivo CSV.", exception.getMessage());
+		verifyNoInteractions(accountsPayableUploadRepository);
+	}
+
+	@Test
+	public void testStorePart_ResentPartReplacesPrevious() throws IOException {
+		when(accountsPayableUploadRepository.findById(upload.getId())).thenReturn(Optional.of(upload));
+
+		storePart(2, "parte dois incompleta");
+		storePart(1, "parte um");
+		storePart(2, "parte dois");
+
+		assertEquals(List.of(1, 2), uploadService.getReceivedParts(upload.getId()));
+		assertEquals("parte dois", Files.readString(uploadDir().resolve("part-00002")));
+	}
+
+	@Test
+	public void testStorePart_RejectsOversizedPartWithoutLeavingFiles() throws IOException {
+		importProperties.setUploadPartMaxSize(DataSize.ofBytes(4));
+		when(accountsPayableUploadRepository.findById(upload.getId())).thenReturn(Optional.of(upload));
+
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> storePart(1, "grande demais"));
+
+		assertEquals("A parte excede o tamanho máximo de 4 bytes", exception.getMessage());
+		try (var files = Files.list(uploadDir())) {
+			assertEquals(0, files.count());
+		}
+	}
+
+	@Test
+	public void testStorePart_RejectsUploadAlreadyCompleted() {
+		upload.setStatus(AccountsPayableUploadStatus.IMPORTING);
+		when(accountsPayableUploadRepository.findById(upload.getId())).thenReturn(Optional.of(upload));
+
+		assertThrows(InvalidUploadStateException.class, () -> storePart(1, "parte"));
+	}
+
+	@Test
+	public void testComplete_ReportsMissingParts() {
+		when(accountsPayableUploadRepository.findById(upload.getId())).thenReturn(Optional.of(upload));
+		storePart(1, "parte um");
+		storePart(3, "parte tres");
+
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> uploadService.complete(upload.getId(), 3));
+
+		assertEquals("Partes não recebidas: [2]", exception.getMessage());
+		verifyNoInteractions(importTaskExecutor);
+	}
+
+	@Test
+	public void testComplete_AssemblesPartsAndRecordsCheckpoints() throws IOException {
+		when(accountsPayableUploadRepository.findById(upload.getId())).thenReturn(Optional.of(upload));
+		claimSucceeds(true);
+		runTasksInline();
+		ImportCheckpoint checkpoint = new ImportCheckpoint(120, 3, 3, 0, 0);
+		doAnswer(invocation -> {
+			assertEquals("amount,description,duedate,status\n100,Conta,2025-01-01,PAGO\n",
+					Files.readString(invocation.<Path>getArgument(1)));
+			invocation.<Consumer<ImportCheckpoint>>getArgument(3).accept(checkpoint);
+			return null;
+		}).when(accountsPayableImportService).importFile(any(ImportJob.class), any(Path.class),
+				eq(ImportCheckpoint.START), any());
+		storePart(1, "amount,description,duedate,status\n100,Con");
+		storePart(2, "ta,2025-01-01,PAGO\n");
+
+		AccountsPayableUpload completed = uploadService.complete(upload.getId(), 2);
+
+		assertEquals(AccountsPayableUploadStatus.IMPORTING, completed.getStatus());
+		assertEquals(60L, completed.getSizeBytes());
+		verify(accountsPayableUploadRepository, times(1)).updateStatusIf(eq(upload.getId()),
+				eq(AccountsPayableUploadStatus.RECEIVING), eq(AccountsPayableUploadStatus.IMPORTING), eq(60L),
+				eq(completed.getUpdatedAt()));
+		verify(accountsPayableUploadRepository, times(1)).renewClaim(eq(upload.getId()), eq(completed.getUpdatedAt()),
+				any(Instant.class));
+		verify(accountsPayableUploadRepository, never()).save(any(AccountsPayableUpload.class));
+		verify(accountsPayableUploadRepository, times(1)).updateCheckpoint(eq(upload.getId()), eq(120L), eq(3L),
+				eq(3L), eq(0L), eq(0L), any(Instant.class), any(Instant.class));
+		verify(accountsPayableUploadRepository, times(1)).updateStatusIfClaimed(eq(upload.getId()),
+				eq(AccountsPayableUploadStatus.COMPLETED), eq(null), any(Instant.class), eq(updatedAt));
+		assertFalse(Files.exists(uploadDir()));
+	}
+
+	@Test
+	public void testComplete_ImportFailureMarksUploadAsFailed() throws IOException {
+		when(accountsPayableUploadRepository.findById(upload.getId())).thenReturn(Optional.of(upload));
+		claimSucceeds(true);
+		runTasksInline();
+		doThrow(new RuntimeException("Falha no banco")).when(accountsPayableImportService)
+				.importFile(any(ImportJob.class), any(Path.class), any(ImportCheckpoint.class), any());
+		storePart(1, "amount,description,duedate,status\n");
+
+		uploadService.complete(upload.getId(), 1);
+
+		verify(accountsPayableUploadRepository, times(1)).updateStatusIfClaimed(eq(upload.getId()),
+				eq(AccountsPayableUploadStatus.FAILED), eq("Falha no banco"), any(Instant.class), eq(updatedAt));
+		assertTrue(Files.exists(uploadDir().resolve("upload.csv")));
+	}
+
+	@Test
+	public void testComplete_RunTakenOverByResumeStopsWriting() throws IOException {
+		when(accountsPayableUploadRepository.findById(upload.getId())).thenReturn(Optional.of(upload));
+		claimSucceeds(true);
+		runTasksInline();
+		doAnswer(invocation -> {
+			Consumer<ImportCheckpoint> onCheckpoint = invocation.getArgument(3);
+			onCheckpoint.accept(new ImportCheckpoint(40, 1, 1, 0, 0));
+			// Outra instância considera a execução parada e retoma o upload
+			claim(updatedAt.plusSeconds(1));
+			onCheckpoint.accept(new ImportCheckpoint(80, 2, 2, 0, 0));
+			return null;
+		}).when(accountsPayableImportService).importFile(any(ImportJob.class), any(Path.class),
+				eq(ImportCheckpoint.START), any());
+		storePart(1, "amount,description,duedate,status\n");
+
+		uploadService.complete(upload.getId(), 1);
+
+		verify(accountsPayableUploadRepository, times(2)).updateCheckpoint(eq(upload.getId()), anyLong(), anyLong(),
+				anyLong(), anyLong(), anyLong(), any(Instant.class), any(Instant.class));
+		verify(accountsPayableUploadRepository, never()).updateStatusIfClaimed(any(), any(), any(), any(), any());
+		verify(accountsPayableUploadRepository, never()).updateStatus(any(), any(), any(), any());
+		assertTrue(Files.exists(uploadDir().resolve("upload.csv")));
+	}
+
+	@Test
+	public void testComplete_OnlyOneConcurrentCallAssembles() {
+		when(accountsPayableUploadRepository.findById(upload.getId())).thenReturn(Optional.of(upload));
+		storePart(1, "parte um");
+
+		InvalidUploadStateException exception = assertThrows(InvalidUploadStateException.class,
+				() -> uploadService.complete(upload.getId(), 1));
+
+		assertEquals("O upload " + upload.getId() + " já foi concluído por outra requisição", exception.getMessage());
+		assertTrue(Files.exists(uploadDir().resolve("part-00001")));
+		assertFalse(Files.exists(uploadDir().resolve("upload.csv")));
+		verifyNoInteractions(importTaskExecutor);
+	}
+
+	@Test
+	public void testComplete_AssemblyFailureReturnsUploadToReceiving() throws IOException {
+		when(accountsPayableUploadRepository.findById(upload.getId())).thenReturn(Optional.of(upload));
+		claimSucceeds(false);
+		storePart(1, "parte um");
+		// Um diretório no lugar do arquivo temporário impede a montagem
+		Files.createDirectories(uploadDir().resolve("upload.csv.tmp"));
+
+		assertThrows(RuntimeException.class, () -> uploadService.complete(upload.getId(), 1));
+
+		verify(accountsPayableUploadRepository, times(1)).updateStatus(eq(upload.getId()),
+				eq(AccountsPayableUploadStatus.RECEIVING), eq(null), any());
+		assertTrue(Files.exists(uploadDir().resolve("part-00001")));
+		verifyNoInteractions(importTaskExecutor);
+	}
+
+	@Test
+	public void testResume_StartsFromStoredCheckpoint() throws IOException {
+		upload.setStatus(AccountsPayableUploadStatus.FAILED);
+		upload.setError("Falha no banco");
+		upload.setCharacterOffset(4096);
+		upload.setRecordNumber(80);
+		upload.setRowsAccepted(70);
+		upload.setRowsRejected(6);
+		upload.setRowsDuplicated(4);
+		Files.writeString(uploadDir().resolve("upload.csv"), "amount,description,duedate,status\n");
+		when(accountsPayableUploadRepository.findById(upload.getId())).thenReturn(Optional.of(upload));
+		resumeSucceeds();
+		trackUpdatedAt();
+		runTasksInline();
+
+		AccountsPayableUpload resumed = uploadService.resume(upload.getId());
+
+		assertEquals(AccountsPayableUploadStatus.IMPORTING, resumed.getStatus());
+		assertNull(resumed.getError());
+		verify(accountsPayableImportService, times(1)).importFile(any(ImportJob.class),
+				eq(uploadDir().resolve("upload.csv")), eq(new ImportCheckpoint(4096, 80, 70, 6, 4)), any());
+		verify(accountsPayableUploadRepository, times(1)).updateStatusIfClaimed(eq(upload.getId()),
+				eq(AccountsPayableUploadStatus.COMPLETED), eq(null), any(Instant.class), eq(updatedAt));
+	}
+
+	@Test
+	public void testResume_RejectsImportStillRunning() throws IOException {
+		upload.setStatus(AccountsPayableUploadStatus.IMPORTING);
+		Files.writeString(uploadDir().resolve("upload.csv"), "amount,description,duedate,status\n");
+		when(accountsPayableUploadRepository.findById(upload.getId())).thenReturn(Optional.of(upload));
+
+		Instant before = Instant.now();
+		assertThrows(InvalidUploadStateException.class, () -> uploadService.resume(upload.getId()));
+
+		verify(accountsPayableUploadRepository, times(1)).updateStatusIfStopped(eq(upload.getId()),
+				eq(AccountsPayableUploadStatus.FAILED), eq(AccountsPayableUploadStatus.IMPORTING),
+				argThat(staleBefore -> !staleBefore.isBefore(before.minus(Duration.ofMinutes(10)).minusMillis(1))
+						&& !staleBefore.isAfter(Instant.now().minus(Duration.ofMinutes(10)))),
+				any(Instant.class));
+		verifyNoInteractions(importTaskExecutor);
+	}
+
+	@Test
+	public void testResume_DiscardsQueuedImportClaimedByAnotherResume() throws IOException {
+		upload.setStatus(AccountsPayableUploadStatus.FAILED);
+		Files.writeString(uploadDir().resolve("upload.csv"), "amount,description,duedate,status\n");
+		when(accountsPayableUploadRepository.findById(upload.getId())).thenReturn(Optional.of(upload));
+		resumeSucceeds();
+		trackUpdatedAt();
+		doAnswer(invocation -> {
+			// Enquanto a execução esperava na fila, outra requisição retomou o upload
+			claim(updatedAt.plusSeconds(1));
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(importTaskExecutor).execute(any(Runnable.class));
+
+		uploadService.resume(upload.getId());
+
+		verifyNoInteractions(accountsPayableImportService);
+		verify(accountsPayableUploadRepository, never()).updateStatus(any(), any(), any(), any());
+		verify(accountsPayableUploadRepository, never()).updateStatusIfClaimed(any(), any(), any(), any(), any());
+	}
+
+	@Test
+	public void testResume_RejectsCompletedUpload() {
+		upload.setStatus(AccountsPayableUploadStatus.COMPLETED);
+		when(accountsPayableUploadRepository.findById(upload.getId())).thenReturn(Optional.of(upload));
+
+		assertThrows(InvalidUploadStateException.class, () -> uploadService.resume(upload.getId()));
+		verifyNoInteractions(importTaskExecutor);
+	}
+
+	@Test
+	public void testAbort_RemovesFilesAndUpload() {
+		when(accountsPayableUploadRepository.findById(upload.getId())).thenReturn(Optional.of(upload));
+		when(accountsPayableUploadRepository.deleteIfStopped(eq(upload.getId()),
+				eq(AccountsPayableUploadStatus.IMPORTING), any(Instant.class))).thenReturn(1);
+		storePart(1, "parte um");
+
+		uploadService.abort(upload.getId());
+
+		assertFalse(Files.exists(uploadDir()));
+	}
+
+	@Test
+	public void testAbort_KeepsUploadBeingImported() {
+		upload.setStatus(AccountsPayableUploadStatus.IMPORTING);
+		when(accountsPayableUploadRepository.findById(upload.getId())).thenReturn(Optional.of(upload));
+
+		assertThrows(InvalidUploadStateException.class, () -> uploadService.abort(upload.getId()));
+		assertTrue(Files.isDirectory(uploadDir()));
+	}
+}
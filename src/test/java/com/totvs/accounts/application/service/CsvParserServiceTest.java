@@ -2,14 +2,23 @@ package com.totvs.accounts.application.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -19,6 +28,9 @@ public class CsvParserServiceTest {
 
 	private final CsvParserService service = new CsvParserService();
 
+	@TempDir
+	private Path tempDir;
+
 	@Test
 	public void testParseCsv_NullFile() {
 		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> service.parseCsv(null));
@@ -104,6 +116,190 @@ public class CsvParserServiceTest {
 		assertTrue(list.isEmpty());
 	}
 
+	@Test
+	public void testParseCsv_RecordWithMissingColumns() {
+		String csvContent = "amount,description,duedate,status\n" + "100,Short row\n" + "200,Full row,2025-01-01,PAGO\n";
+		MultipartFile file = new MockMultipartFile("file", "test.csv", "text/csv",
+				csvContent.getBytes(StandardCharsets.UTF_8));
+		List<AccountsPayable> list = service.parseCsv(file);
+		assertEquals(1, list.size());
+		assertEquals("Full row", list.get(0).getDescription());
+	}
+
+	@Test
+	public void testParseCsv_StreamsRecordsToConsumer() {
+		String csvContent = "amount,description,duedate,status\n" + "100,First,2025-01-01,PENDENTE\n"
+				+ "abc,Invalid,2025-01-01,PENDENTE\n" + "200,Second,2025-01-02,PAGO\n";
+		MultipartFile file = new MockMultipartFile("file", "test.csv", "text/csv",
+				csvContent.getBytes(StandardCharsets.UTF_8));
+		List<AccountsPayable> received = new ArrayList<>();
+		long rejected = service.parseCsv(file, received::add);
+		assertEquals(1, rejected);
+		assertEquals(2, received.size());
+		assertEquals("First", received.get(0).getDescription());
+		assertEquals("Second", received.get(1).getDescription());
+	}
+
+	@Test
+	public void testParseCsv_FromInputStream() {
+		String csvContent = "amount,description,duedate,status\n" + "100,First,2025-01-01,PENDENTE\n"
+				+ "200,Second,invalid-date,PAGO\n";
+		List<AccountsPayable> received = new ArrayList<>();
+		long rejected = service.parseCsv(new ByteArrayInputStream(csvContent.getBytes(StandardCharsets.UTF_8)),
+				received::add);
+		assertEquals(1, rejected);
+		assertEquals(1, received.size());
+		assertEquals("First", received.get(0).getDescription());
+	}
+
+	@Test
+	public void testParseCsv_ResumesAfterCursor() throws IOException {
+		Path file = tempDir.resolve("contas.csv");
+		Files.writeString(file, "Amount,Description,DueDate,Status\n" + "100,Primeira,2025-01-01,PENDENTE\r\n"
+				+ "abc,Invalida,2025-01-01,PENDENTE\n" + "200,\"Com\nquebra\",2025-01-02,PAGO\n"
+				+ "300,Última,2025-01-03,PAGO\n");
+		List<Long[]> positions = new ArrayList<>();
+		CsvParserService.CsvCursor cursor = new CsvParserService.CsvCursor(0, 0);
+		long rejected = service.parseCsv(file, cursor,
+				account -> positions.add(new Long[] { cursor.getCharacterOffset(), cursor.getRecordNumber() }));
+		assertEquals(1, rejected);
+		assertEquals(3, positions.size());
+
+		List<String> received = new ArrayList<>();
+		CsvParserService.CsvCursor resumed = new CsvParserService.CsvCursor(positions.get(1)[0], positions.get(1)[1]);
+		assertEquals(0, service.parseCsv(file, resumed, account -> received.add(account.getDescription())));
+		assertEquals(List.of("Última"), received);
+		assertEquals(4, resumed.getRecordNumber());
+
+		received.clear();
+		resumed = new CsvParserService.CsvCursor(positions.get(0)[0], positions.get(0)[1]);
+		assertEquals(1, service.parseCsv(file, resumed, account -> received.add(account.getDescription())));
+		assertEquals(List.of("Com\nquebra", "Última"), received);
+	}
+
+	@Test
+	public void testParseMappedCsv_ParallelMatchesReader() throws IOException {
+		Path file = tempDir.resolve("contas.csv");
+		Files.writeString(file, quotedCsv(2000));
+		List<AccountsPayable> reader = new ArrayList<>();
+		List<AccountsPayable> parallel = new ArrayList<>();
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			long readerRejected = service.parseCsv(Files.newInputStream(file), reader::add);
+			long parallelRejected = service.parseMappedCsv(file, parallel::add, pool, 4, 512, 256);
+			assertEquals(286, parallelRejected);
+			assertEquals(readerRejected, parallelRejected);
+			assertEquals(summarize(reader), summarize(parallel));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testMappedCsvSplitter_RangesKeepRecordNumbers() throws IOException {
+		Path file = tempDir.resolve("contas.csv");
+		Files.writeString(file, quotedCsv(200));
+		List<Long> recordNumbers = new ArrayList<>();
+		int ranges = 0;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MappedCsvScanner header = new MappedCsvScanner(channel, 256);
+			assertTrue(header.nextRecord());
+			MappedCsvSplitter splitter = new MappedCsvSplitter(channel, header.offset(), header.recordNumber(), 100,
+					256);
+			while (splitter.nextRange()) {
+				ranges++;
+				MappedCsvScanner scanner = new MappedCsvScanner(channel, 256, splitter.start(), splitter.end(),
+						splitter.recordsBefore());
+				while (scanner.nextRecord()) {
+					recordNumbers.add(scanner.recordNumber());
+				}
+			}
+		}
+		assertTrue(ranges > 10);
+		assertEquals(LongStream.rangeClosed(1, 200).boxed().toList(), recordNumbers);
+	}
+
+	// Inclui campos entre aspas com vírgula, aspas e quebra de linha, linhas vazias e fins de linha \r\n.
+	private String quotedCsv(int rows) {
+		StringBuilder csvContent = new StringBuilder("Amount,Description,DueDate,Status,PaymentDate\r\n");
+		for (int i = 0; i < rows; i++) {
+			csvContent.append(i % 7 == 0 ? "x" : i + ".50").append(',')
+					.append(i % 5 == 0 ? "\"Conta \"\"" + i + "\"\",\nÚltima\"" : " Conta " + i + " ").append(",2025-01-01,PAGO,")
+					.append(i % 2 == 0 ? "2025-01-05" : "").append(i % 3 == 0 ? "\r\n\n" : "\n");
+		}
+		return csvContent.toString();
+	}
+
+	private List<String> summarize(List<AccountsPayable> accounts) {
+		return accounts.stream().map(a -> a.getDescription() + "|" + a.getAmount() + "|" + a.getPaymentDate()).toList();
+	}
+
+	@Test
+	public void testParseMappedCsv_MatchesReader() throws IOException {
+		Path file = tempDir.resolve("contas.csv");
+		Files.writeString(file, quotedCsv(200));
+		List<AccountsPayable> reader = new ArrayList<>();
+		List<AccountsPayable> mapped = new ArrayList<>();
+
+		long readerRejected = service.parseCsv(Files.newInputStream(file), reader::add);
+		long mappedRejected = service.parseMappedCsv(file, mapped::add, 256);
+
+		assertEquals(29, mappedRejected);
+		assertEquals(readerRejected, mappedRejected);
+		assertEquals(summarize(reader), summarize(mapped));
+		assertEquals("Conta \"5\",\nÚltima", mapped.get(4).getDescription());
+	}
+
+	@Test
+	public void testParseMappedCsv_MissingRequiredColumns() throws IOException {
+		Path file = tempDir.resolve("contas.csv");
+		Files.writeString(file, "amount,description,status\n100,Test,PENDENTE\n");
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> service.parseMappedCsv(file, account -> {
+				}));
+		assertTrue(exception.getMessage().startsWith("O arquivo CSV deve conter as colunas"));
+	}
+
+	@Test
+	public void testParseMappedCsv_UnclosedQuote() throws IOException {
+		Path file = tempDir.resolve("contas.csv");
+		Files.writeString(file, "amount,description,duedate,status\n100,\"Sem fim,2025-01-01,PAGO\n");
+		RuntimeException exception = assertThrows(RuntimeException.class,
+				() -> service.parseMappedCsv(file, account -> {
+				}));
+		assertTrue(exception.getMessage().contains("Erro ao processar o arquivo:"));
+	}
+
+	@Test
+	public void testParseMappedCsv_ParallelMissingRequiredColumns() throws IOException {
+		Path file = tempDir.resolve("contas.csv");
+		Files.writeString(file, "amount,status\n1,PAGO\n");
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+					() -> service.parseMappedCsv(file, a -> {
+					}, pool, 2));
+			assertTrue(exception.getMessage().startsWith("O arquivo CSV deve conter as colunas"));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testParseMappedCsv_ParallelUnclosedQuote() throws IOException {
+		Path file = tempDir.resolve("contas.csv");
+		Files.writeString(file, quotedCsv(100) + "100,\"Sem fim,2025-01-01,PAGO\n");
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			RuntimeException exception = assertThrows(RuntimeException.class,
+					() -> service.parseMappedCsv(file, a -> {
+					}, pool, 2, 256, 256));
+			assertTrue(exception.getMessage().contains("Erro ao processar o arquivo:"));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
 	@Test
 	public void testParseCsv_IOException() {
 		MultipartFile file = new MultipartFile() {
@@ -0,0 +1,43 @@
+package com.totvs.accounts.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class CsvValueParserTest {
+
+	@ParameterizedTest
+	@ValueSource(strings = { "100", "100.50", "-1.5", "+2", ".5", "5.", "0.00", "1e3", "12345678901234567890.12" })
+	public void testParseAmount_MatchesBigDecimal(String value) {
+		assertEquals(new BigDecimal(value), CsvValueParser.parseAmount(value));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "", "-", "abc", "1.2.3", "10,50", "1e" })
+	public void testParseAmount_InvalidReturnsNull(String value) {
+		assertNull(CsvValueParser.parseAmount(value));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "2025-01-01", "2024-02-29", "1999-12-31" })
+	public void testParseDate_Valid(String value) {
+		assertEquals(LocalDate.parse(value), CsvValueParser.parseDate(value));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "", "invalid-date", "2025-1-01", "2025-13-01", "2025-00-10", "2025-01-32", "0000-01-01",
+			"2025/01/01" })
+	public void testParseDate_InvalidReturnsNull(String value) {
+		assertNull(CsvValueParser.parseDate(value));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "2025-02-30", "2023-02-29" })
+	public void testParseDate_ClampsDayToEndOfMonth(String value) {
+		assertEquals(LocalDate.of(Integer.parseInt(value.substring(0, 4)), 2, 28), CsvValueParser.parseDate(value));
+	}
+}
@@ -0,0 +1,61 @@
+package com.totvs.accounts.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.totvs.accounts.domain.entity.AccountsPayable;
+import com.totvs.accounts.infrastructure.persistence.ReactiveAccountsPayableReader;
+
+import jakarta.persistence.EntityNotFoundException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveAccountPayableServiceTest {
+
+	@Mock
+	private ReactiveAccountsPayableReader reactiveAccountsPayableReader;
+
+	@InjectMocks
+	private ReactiveAccountPayableService reactiveAccountPayableService;
+
+	@Test
+	public void testGetAccountsPayableById() {
+		AccountsPayable account = new AccountsPayable();
+		account.setId(1L);
+		when(reactiveAccountsPayableReader.findById(1L)).thenReturn(Mono.just(account));
+		assertSame(account, reactiveAccountPayableService.getAccountsPayableById(1L).block());
+	}
+
+	@Test
+	public void testGetAccountsPayableByIdNotFound() {
+		when(reactiveAccountsPayableReader.findById(1L)).thenReturn(Mono.empty());
+		EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+				() -> reactiveAccountPayableService.getAccountsPayableById(1L).block());
+		assertEquals("Conta de id (1) não foi encontrada!", exception.getMessage());
+	}
+
+	@Test
+	public void testGetAccountsPayableInvalidSize() {
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> reactiveAccountPayableService.getAccountsPayable(null, null, PageRequest.of(0, 1001)));
+		assertEquals("O tamanho da página deve estar entre 1 e 1000", exception.getMessage());
+		verifyNoInteractions(reactiveAccountsPayableReader);
+	}
+
+	@Test
+	public void testGetAccountsPayablePassesPageable() {
+		Pageable pageable = PageRequest.of(2, 50);
+		AccountsPayable account = new AccountsPayable();
+		when(reactiveAccountsPayableReader.findAll(null, "Aluguel", pageable)).thenReturn(Flux.just(account));
+		assertSame(account, reactiveAccountPayableService.getAccountsPayable(null, "Aluguel", pageable).blockFirst());
+	}
+}
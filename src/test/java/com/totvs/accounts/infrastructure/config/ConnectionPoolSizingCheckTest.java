@@ -0,0 +1,56 @@
+package com.totvs.accounts.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ConnectionPoolSizingCheckTest {
+
+	@Test
+	public void testCheck_PoolLargerThanImportsIsFine() {
+		assertTrue(ConnectionPoolSizingCheck.check("primary", 10, 10_000, false, 2, true).isEmpty());
+	}
+
+	@Test
+	public void testCheck_ImportsCanTakeEveryConnection() {
+		List<String> warnings = ConnectionPoolSizingCheck.check("primary", 2, 10_000, false, 2, false);
+		assertEquals(1, warnings.size());
+		assertTrue(warnings.get(0).startsWith("O pool primary tem 2 conexões e até 2 importações simultâneas"));
+	}
+
+	@Test
+	public void testCheck_ReplicaIgnoresImports() {
+		assertTrue(ConnectionPoolSizingCheck.check("replica", 2, 10_000, true, 2, false).isEmpty());
+	}
+
+	@Test
+	public void testCheck_LongConnectionTimeoutOnlyWarnsWithVirtualThreads() {
+		assertTrue(ConnectionPoolSizingCheck.check("primary", 10, 30_000, false, 2, false).isEmpty());
+		List<String> warnings = ConnectionPoolSizingCheck.check("primary", 10, 30_000, false, 2, true);
+		assertEquals(1, warnings.size());
+		assertTrue(warnings.get(0).contains("espera até 30000 ms por uma conexão"));
+	}
+
+	@Test
+	public void testCheckReactive_OnlyWarnsWhenLargerPoolHitsPrimary() {
+		assertTrue(ConnectionPoolSizingCheck.checkReactive(20, true, 10).isEmpty());
+		assertTrue(ConnectionPoolSizingCheck.checkReactive(10, false, 10).isEmpty());
+		assertTrue(ConnectionPoolSizingCheck.checkReactive(20, false, 10).orElseThrow()
+				.startsWith("O pool r2dbc abre até 20 conexões no banco principal, além das 10 dos pools JDBC (30"));
+	}
+
+	@Test
+	public void testReactiveReadProperties_UsesReplicaWhenConfigured() {
+		ReactiveReadProperties properties = new ReactiveReadProperties();
+		properties.setUrl("r2dbc:postgresql://postgres:5432/accountpayble");
+		assertEquals("r2dbc:postgresql://postgres:5432/accountpayble", properties.resolveUrl(null));
+		assertFalse(properties.usesReplica(""));
+		assertEquals("r2dbc:postgresql://replica:5432/accountpayble",
+				properties.resolveUrl("jdbc:postgresql://replica:5432/accountpayble"));
+		properties.setReplicaUrl("r2dbc:postgresql://replica-r2dbc:5432/accountpayble");
+		assertTrue(properties.usesReplica("jdbc:postgresql://replica:5432/accountpayble"));
+		assertEquals("r2dbc:postgresql://replica-r2dbc:5432/accountpayble", properties.resolveUrl(null));
+	}
+}
@@ -0,0 +1,73 @@
+package com.totvs.accounts.infrastructure.config;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class ReplicaDataSourceConfigTest {
+
+	@Mock
+	private DataSource primary;
+
+	@Mock
+	private DataSource replica;
+
+	@Mock
+	private Connection primaryConnection;
+
+	@Mock
+	private Connection replicaConnection;
+
+	private DataSource dataSource;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		when(primary.getConnection()).thenReturn(primaryConnection);
+		dataSource = new ReplicaDataSourceConfig().dataSource(primary, replica);
+	}
+
+	@Test
+	public void testReadOnlyTransactionUsesReplica() throws SQLException {
+		when(replica.getConnection()).thenReturn(replicaConnection);
+
+		execute(true);
+
+		verify(replicaConnection).prepareStatement("SELECT 1");
+		verify(primaryConnection, never()).prepareStatement(anyString());
+	}
+
+	@Test
+	public void testReadWriteTransactionUsesPrimary() throws SQLException {
+		execute(false);
+
+		verify(primaryConnection).prepareStatement("SELECT 1");
+		verify(replica, never()).getConnection();
+	}
+
+	private void execute(boolean readOnly) {
+		TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		template.setReadOnly(readOnly);
+		template.executeWithoutResult(status -> {
+			try {
+				DataSourceUtils.getConnection(dataSource).prepareStatement("SELECT 1");
+			} catch (SQLException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+	}
+
+}
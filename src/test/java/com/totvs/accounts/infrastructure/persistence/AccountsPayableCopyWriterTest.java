@@ -0,0 +1,68 @@
+package com.totvs.accounts.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+import com.totvs.accounts.domain.entity.AccountsPayable;
+
+public class AccountsPayableCopyWriterTest {
+
+	@Test
+	public void testToCsv_QuotesTextAndLeavesMissingPaymentDateEmpty() {
+		AccountsPayable pending = AccountsPayable.builder().amount(new BigDecimal("100.50"))
+				.description("Aluguel, \"sala\" 2").dueDate(LocalDate.of(2025, 1, 10)).status("PENDENTE").build();
+		AccountsPayable paid = AccountsPayable.builder().amount(new BigDecimal("1E+2")).description("Energia")
+				.dueDate(LocalDate.of(2025, 2, 1)).paymentDate(LocalDate.of(2025, 2, 3)).status("PAGO").build();
+
+		String csv = AccountsPayableCopyWriter.toCsv(List.of(pending, paid), new long[] { 51, 52 });
+
+		assertEquals("51,100.50,\"Aluguel, \"\"sala\"\" 2\",2025-01-10,,\"PENDENTE\"," + pending.computeKeyHash() + "\n"
+				+ "52,100,\"Energia\",2025-02-01,2025-02-03,\"PAGO\"," + AccountsPayable.keyHashOf("Energia",
+						LocalDate.of(2025, 2, 1), new BigDecimal("100.00")) + "\n", csv);
+	}
+
+	@Test
+	public void testReserveIds_UsesWholeSequenceBlocks() throws SQLException {
+		Connection connection = mock(Connection.class);
+		PreparedStatement statement = mock(PreparedStatement.class);
+		ResultSet first = mock(ResultSet.class);
+		ResultSet second = mock(ResultSet.class);
+		when(connection.prepareStatement(anyString())).thenReturn(statement);
+		when(statement.executeQuery()).thenReturn(first, second);
+		when(first.next()).thenReturn(true, true, false);
+		when(first.getLong(1)).thenReturn(1L, 100L);
+		when(second.next()).thenReturn(true, false);
+		when(second.getLong(1)).thenReturn(150L);
+
+		long[] ids = AccountsPayableCopyWriter.reserveIds(connection, 60);
+
+		assertEquals(60, ids.length);
+		assertEquals(51, ids[0]);
+		assertEquals(100, ids[49]);
+		assertEquals(101, ids[50]);
+		assertEquals(110, ids[59]);
+		verify(statement).setInt(1, 2);
+		verify(statement).setInt(1, 1);
+	}
+
+	@Test
+	public void testCopy_EmptyChunkDoesNotTouchDatabase() {
+		DataSource dataSource = mock(DataSource.class);
+		AccountsPayableCopyWriter writer = new AccountsPayableCopyWriter(dataSource);
+		assertEquals(0, writer.copy(Collections.emptyList()));
+		verifyNoInteractions(dataSource);
+	}
+}
@@ -0,0 +1,101 @@
+package com.totvs.accounts.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+import com.totvs.accounts.application.service.ExportFormat;
+import com.totvs.accounts.infrastructure.config.ExportProperties;
+
+public class AccountsPayableExporterTest {
+
+	@Test
+	public void testQuery_AddsOnlyPresentFilters() {
+		assertEquals("SELECT id, valor, descricao, data_vencimento, data_pagamento, situacao FROM conta ORDER BY id",
+				AccountsPayableExporter.query(false, false));
+		assertEquals("SELECT id, valor, descricao, data_vencimento, data_pagamento, situacao FROM conta"
+				+ " WHERE data_vencimento = ? AND descricao LIKE ? ESCAPE '\\' ORDER BY id",
+				AccountsPayableExporter.query(true, true));
+		assertEquals("SELECT id, valor, descricao, data_vencimento, data_pagamento, situacao FROM conta"
+				+ " WHERE descricao LIKE ? ESCAPE '\\' ORDER BY id", AccountsPayableExporter.query(false, true));
+	}
+
+	@Test
+	public void testEscapeLike() {
+		assertEquals("50\\% de\\_desconto \\\\", AccountsPayableExporter.escapeLike("50% de_desconto \\"));
+	}
+
+	@Test
+	public void testExport_StreamsNdjsonWithCursor() throws Exception {
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.next()).thenReturn(true, true, false);
+		when(resultSet.getLong(1)).thenReturn(1L, 2L);
+		when(resultSet.getString(2)).thenReturn("100.50", "20.00");
+		when(resultSet.getString(3)).thenReturn("Aluguel \"sala\"\n2", "Energia");
+		when(resultSet.getString(4)).thenReturn("2025-01-10", "2025-02-01");
+		when(resultSet.getString(5)).thenReturn(null, "2025-02-03");
+		when(resultSet.getString(6)).thenReturn("PENDENTE", "PAGO");
+		PreparedStatement statement = mock(PreparedStatement.class);
+		when(statement.executeQuery()).thenReturn(resultSet);
+		Connection connection = mock(Connection.class);
+		when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+		DataSource dataSource = mock(DataSource.class);
+		when(dataSource.getConnection()).thenReturn(connection);
+		ExportProperties exportProperties = new ExportProperties();
+		exportProperties.setFetchSize(1000);
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		long rows = new AccountsPayableExporter(dataSource, exportProperties).export(LocalDate.of(2025, 1, 10),
+				"100%", ExportFormat.NDJSON, output);
+
+		assertEquals(2, rows);
+		assertEquals("{\"id\":1,\"amount\":100.50,\"description\":\"Aluguel \\\"sala\\\"\\n2\",\"dueDate\":\"2025-01-10\","
+				+ "\"paymentDate\":null,\"status\":\"PENDENTE\"}\n"
+				+ "{\"id\":2,\"amount\":20.00,\"description\":\"Energia\",\"dueDate\":\"2025-02-01\","
+				+ "\"paymentDate\":\"2025-02-03\",\"status\":\"PAGO\"}\n", output.toString(StandardCharsets.UTF_8));
+		verify(connection).setAutoCommit(false);
+		verify(connection).prepareStatement(AccountsPayableExporter.query(true, true), ResultSet.TYPE_FORWARD_ONLY,
+				ResultSet.CONCUR_READ_ONLY);
+		verify(statement).setFetchSize(1000);
+		verify(statement).setObject(1, LocalDate.of(2025, 1, 10));
+		verify(statement).setString(2, "%100\\%%");
+		verify(connection).close();
+	}
+
+	@Test
+	public void testExport_CsvUsesImportHeader() throws Exception {
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.next()).thenReturn(true, false);
+		when(resultSet.getLong(1)).thenReturn(3L);
+		when(resultSet.getString(2)).thenReturn("10.00");
+		when(resultSet.getString(3)).thenReturn("Água, luz");
+		when(resultSet.getString(4)).thenReturn("2025-03-01");
+		when(resultSet.getString(6)).thenReturn("PENDENTE");
+		PreparedStatement statement = mock(PreparedStatement.class);
+		when(statement.executeQuery()).thenReturn(resultSet);
+		Connection connection = mock(Connection.class);
+		when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+		DataSource dataSource = mock(DataSource.class);
+		when(dataSource.getConnection()).thenReturn(connection);
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		new AccountsPayableExporter(dataSource, new ExportProperties()).export(null, null, ExportFormat.CSV, output);
+
+		assertEquals(AccountsPayableExporter.CSV_HEADER + "3,10.00,\"Água, luz\",2025-03-01,\"PENDENTE\",\n",
+				output.toString(StandardCharsets.UTF_8));
+		verify(statement, never()).setObject(anyInt(), any());
+		verify(statement, never()).setString(anyInt(), anyString());
+	}
+}
@@ -0,0 +1,112 @@
+package com.totvs.accounts.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import com.totvs.accounts.domain.entity.AccountsPayable;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+
+public class ReactiveAccountsPayableReaderTest {
+
+	private ReactiveAccountsPayableReader reader;
+
+	@BeforeEach
+	public void setUp() {
+		ConnectionFactory connectionFactory = ConnectionFactories
+				.get("r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1");
+		DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+		databaseClient.sql("CREATE TABLE conta (id BIGINT PRIMARY KEY, valor NUMERIC(15, 2) NOT NULL, "
+				+ "descricao VARCHAR(255) NOT NULL, data_vencimento DATE NOT NULL, data_pagamento DATE, "
+				+ "situacao VARCHAR(50) NOT NULL, versao BIGINT NOT NULL DEFAULT 0)").then().block();
+		databaseClient.sql("INSERT INTO conta (id, valor, descricao, data_vencimento, data_pagamento, situacao) VALUES "
+				+ "(1, 100.50, 'Aluguel', DATE '2025-01-10', NULL, 'PENDENTE'), "
+				+ "(2, 20.00, 'Energia', DATE '2025-01-05', DATE '2025-01-06', 'PAGO'), "
+				+ "(3, 35.00, 'Aluguel 50% garagem', DATE '2025-01-10', NULL, 'PENDENTE'), "
+				+ "(4, 80.00, 'Internet', DATE '2025-02-01', NULL, 'PENDENTE')").then().block();
+		reader = new ReactiveAccountsPayableReader(connectionFactory);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		reader.destroy();
+	}
+
+	private static final Sort DEFAULT_SORT = Sort.by("dueDate", "id");
+
+	private List<Long> ids(List<AccountsPayable> accounts) {
+		return accounts.stream().map(AccountsPayable::getId).toList();
+	}
+
+	@Test
+	public void testFindAll_OrdersByDueDateAndPages() {
+		assertEquals(List.of(2L, 1L),
+				ids(reader.findAll(null, null, PageRequest.of(0, 2, DEFAULT_SORT)).collectList().block()));
+		assertEquals(List.of(3L, 4L),
+				ids(reader.findAll(null, null, PageRequest.of(1, 2, DEFAULT_SORT)).collectList().block()));
+	}
+
+	@Test
+	public void testFindAll_OrdersByRequestedSort() {
+		Sort sort = Sort.by(Sort.Order.desc("amount"));
+		assertEquals(List.of(1L, 4L, 3L, 2L),
+				ids(reader.findAll(null, null, PageRequest.of(0, 20, sort)).collectList().block()));
+	}
+
+	@Test
+	public void testFindAll_FiltersByDueDateAndDescription() {
+		PageRequest pageable = PageRequest.of(0, 20, DEFAULT_SORT);
+		assertEquals(List.of(1L, 3L),
+				ids(reader.findAll(LocalDate.of(2025, 1, 10), null, pageable).collectList().block()));
+		assertEquals(List.of(3L), ids(reader.findAll(LocalDate.of(2025, 1, 10), "50%", pageable).collectList().block()));
+		assertEquals(List.of(1L, 3L), ids(reader.findAll(null, "Aluguel", pageable).collectList().block()));
+	}
+
+	@Test
+	public void testFindById_MapsAllColumns() {
+		AccountsPayable account = reader.findById(2L).block();
+		assertAll("Mapped account", () -> assertEquals(2L, account.getId()),
+				() -> assertEquals(0, new BigDecimal("20.00").compareTo(account.getAmount())),
+				() -> assertEquals("Energia", account.getDescription()),
+				() -> assertEquals(LocalDate.of(2025, 1, 5), account.getDueDate()),
+				() -> assertEquals(LocalDate.of(2025, 1, 6), account.getPaymentDate()),
+				() -> assertEquals("PAGO", account.getStatus()), () -> assertEquals(0L, account.getVersion()));
+		assertNull(reader.findById(99L).block());
+	}
+
+	@Test
+	public void testQuery_AddsOnlyPresentFilters() {
+		assertEquals("SELECT id, valor, descricao, data_vencimento, data_pagamento, situacao, versao FROM conta"
+				+ " WHERE data_vencimento = :dueDate AND descricao LIKE :description ESCAPE '\\'"
+				+ " ORDER BY data_vencimento ASC, id ASC LIMIT 20 OFFSET 40",
+				ReactiveAccountsPayableReader.query(true, true, DEFAULT_SORT, 40, 20));
+	}
+
+	@Test
+	public void testQuery_MapsSortToColumns() {
+		Sort sort = Sort.by(Sort.Order.desc("paymentDate").nullsLast(), Sort.Order.asc("description").ignoreCase());
+		assertTrue(ReactiveAccountsPayableReader.query(false, false, sort, 0, 20)
+				.endsWith(" FROM conta ORDER BY data_pagamento DESC NULLS LAST, lower(descricao) ASC LIMIT 20 OFFSET 0"));
+		assertTrue(ReactiveAccountsPayableReader.query(false, false, Sort.unsorted(), 0, 20)
+				.endsWith(" FROM conta LIMIT 20 OFFSET 0"));
+	}
+
+	@Test
+	public void testQuery_RejectsUnknownSortProperty() {
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> ReactiveAccountsPayableReader.query(false, false, Sort.by("valor; DROP TABLE conta"), 0, 20));
+		assertEquals("Não é possível ordenar por valor; DROP TABLE conta", exception.getMessage());
+	}
+}
@@ -2,9 +2,11 @@ package com.totvs.accounts.presentation.controller;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
@@ -13,6 +15,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -35,17 +40,54 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.totvs.accounts.application.factory.AccountsPayableFactory;
+import com.totvs.accounts.application.importjob.ImportJob;
+import com.totvs.accounts.application.importjob.ImportJobStatus;
+import com.totvs.accounts.application.pagination.KeysetCursor;
 import com.totvs.accounts.application.service.AccountPayableService;
+import com.totvs.accounts.application.service.AccountsPayableBatchService;
+import com.totvs.accounts.application.service.AccountsPayableDailyTotalService;
+import com.totvs.accounts.application.service.AccountsPayableExportService;
+import com.totvs.accounts.application.service.AccountsPayableImportService;
+import com.totvs.accounts.application.service.AccountsPayableUploadService;
 import com.totvs.accounts.application.service.CsvParserService;
+import com.totvs.accounts.application.service.ExportFormat;
+import com.totvs.accounts.application.service.ImportEngine;
 import com.totvs.accounts.domain.entity.AccountsPayable;
+import com.totvs.accounts.domain.entity.AccountsPayableUpload;
+import com.totvs.accounts.domain.entity.AccountsPayableUploadStatus;
+import com.totvs.accounts.domain.projection.AccountsPayableDailyTotalMismatch;
+import com.totvs.accounts.domain.projection.AccountsPayableDashboardRow;
+import com.totvs.accounts.domain.projection.AccountsPayableView;
+import com.totvs.accounts.domain.projection.AccountsPayableTotals;
+import com.totvs.accounts.presentation.dto.AccountsPayableBatchItemResponseDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableBatchItemStatus;
+import com.totvs.accounts.presentation.dto.AccountsPayableBatchResponseDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableBulkStatusRequestDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableBulkStatusResponseDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableDailyTotalConsistencyResponseDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableDashboardResponseDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableImportJobResponseDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableImportSummaryResponseDto;
 import com.totvs.accounts.presentation.dto.AccountsPayableRequestDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableResponseDto;
 import com.totvs.accounts.presentation.dto.AccountsPayableTotalPaidResponseDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableUploadResponseDto;
+import com.totvs.accounts.presentation.dto.AccountsPayableWindowResponseDto;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
 
 @ExtendWith(MockitoExtension.class)
 public class AccountsPayableControllerTest {
@@ -56,14 +98,33 @@ public class AccountsPayableControllerTest {
 	@Mock
 	private AccountPayableService accountPayableService;
 
+	@Mock
+	private AccountsPayableImportService accountsPayableImportService;
+
+	@Mock
+	private AccountsPayableDailyTotalService accountsPayableDailyTotalService;
+
+	@Mock
+	private AccountsPayableBatchService accountsPayableBatchService;
+
+	@Mock
+	private AccountsPayableExportService accountsPayableExportService;
+
+	@Mock
+	private AccountsPayableUploadService accountsPayableUploadService;
+
 	private <T> void assertResponse(HttpStatus expectedStatus, T expectedBody, ResponseEntity<T> response) {
 		assertAll("Response assertions", () -> assertNotNull(response, "Response should not be null"),
 				() -> assertEquals(expectedStatus, response.getStatusCode(), "Unexpected HTTP status"),
 				() -> assertEquals(expectedBody, response.getBody(), "Unexpected response body"));
 	}
 
-	private Page<AccountsPayable> buildPage(Pageable pageable, AccountsPayable... accounts) {
-		return new PageImpl<>(Arrays.asList(accounts), pageable, accounts.length);
+	private Page<AccountsPayableView> buildPage(Pageable pageable, AccountsPayable... accounts) {
+		return new PageImpl<>(Arrays.stream(accounts).map(this::view).toList(), pageable, accounts.length);
+	}
+
+	private AccountsPayableView view(AccountsPayable account) {
+		return new SpelAwareProxyProjectionFactory().createProjection(AccountsPayableView.class, account);
 	}
 
 	private AccountsPayable createTestAccount() {
@@ -75,10 +136,11 @@ public class AccountsPayableControllerTest {
 	@DisplayName("Test getAccountsPayable with various parameters")
 	public void testGetAccountsPayable_VariousParameters(LocalDate dueDate, String description, Pageable pageable) {
 		AccountsPayable account = createTestAccount();
-		Page<AccountsPayable> page = buildPage(pageable, account);
+		Page<AccountsPayableView> page = buildPage(pageable, account);
 		when(accountPayableService.getAccountsPayable(dueDate, description, pageable)).thenReturn(page);
-		ResponseEntity<Page<AccountsPayable>> response = controller.getAccountsPayable(dueDate, description, pageable);
-		assertResponse(HttpStatus.OK, page, response);
+		ResponseEntity<Page<AccountsPayableResponseDto>> response = controller.getAccountsPayable(dueDate, description,
+				pageable);
+		assertResponse(HttpStatus.OK, page.map(AccountsPayableResponseDto::from), response);
 		verify(accountPayableService, times(1)).getAccountsPayable(dueDate, description, pageable);
 	}
 
@@ -133,15 +195,46 @@ public class AccountsPayableControllerTest {
 		}
 	}
 
+	@Test
+	public void testGetAccountsPayableWindow_HasNext() {
+		AccountsPayable account = createTestAccount();
+		account.setId(7L);
+		account.setDueDate(LocalDate.of(2025, 1, 1));
+		Window<AccountsPayableView> window = Window.from(List.of(view(account)), i -> ScrollPosition.keyset(), true);
+		when(accountPayableService.getAccountsPayableWindow(null, null, null, 20)).thenReturn(window);
+		ResponseEntity<AccountsPayableWindowResponseDto> response = controller.getAccountsPayableWindow(null, null,
+				null, 20);
+		assertAll("GetAccountsPayableWindow HasNext",
+				() -> assertEquals(HttpStatus.OK, response.getStatusCode(), "HTTP Status should be OK"),
+				() -> assertEquals(List.of(AccountsPayableResponseDto.from(account)), response.getBody().getContent(),
+						"Content does not match"),
+				() -> assertEquals(new KeysetCursor(account.getDueDate(), account.getId()).encode(),
+						response.getBody().getNextCursor(),
+						"Next cursor should point to the last account"));
+	}
+
+	@Test
+	public void testGetAccountsPayableWindow_LastWindow() {
+		Window<AccountsPayableView> window = Window.from(List.of(view(createTestAccount())),
+				i -> ScrollPosition.keyset());
+		when(accountPayableService.getAccountsPayableWindow(null, null, "abc", 20)).thenReturn(window);
+		ResponseEntity<AccountsPayableWindowResponseDto> response = controller.getAccountsPayableWindow(null, null,
+				"abc", 20);
+		assertAll("GetAccountsPayableWindow LastWindow",
+				() -> assertEquals(false, response.getBody().isHasNext(), "Should not have a next window"),
+				() -> assertNull(response.getBody().getNextCursor(), "Next cursor should be null"));
+	}
+
 	@Test
 	public void testGetAccountPayableById_Success() {
 		Long id = 1L;
 		AccountsPayable account = createTestAccount();
 		when(accountPayableService.getAccountsPayableById(id)).thenReturn(account);
-		ResponseEntity<AccountsPayable> response = controller.getAccountPayableById(id);
+		ResponseEntity<AccountsPayableResponseDto> response = controller.getAccountPayableById(id);
 		assertAll("GetAccountPayableById Success", () -> assertNotNull(response, "Response should not be null"),
 				() -> assertEquals(HttpStatus.OK, response.getStatusCode(), "HTTP Status should be OK"),
-				() -> assertEquals(account, response.getBody(), "Returned account does not match expected account"));
+				() -> assertEquals(AccountsPayableResponseDto.from(account), response.getBody(),
+						"Returned account does not match expected account"));
 		verify(accountPayableService, times(1)).getAccountsPayableById(id);
 	}
 
@@ -149,7 +242,7 @@ public class AccountsPayableControllerTest {
 	public void testGetAccountPayableById_NullAccount() {
 		Long id = 1L;
 		when(accountPayableService.getAccountsPayableById(id)).thenReturn(null);
-		ResponseEntity<AccountsPayable> response = controller.getAccountPayableById(id);
+		ResponseEntity<AccountsPayableResponseDto> response = controller.getAccountPayableById(id);
 		assertAll("GetAccountPayableById Null Account", () -> assertNotNull(response, "Response should not be null"),
 				() -> assertEquals(HttpStatus.OK, response.getStatusCode(), "HTTP Status should be OK"),
 				() -> assertNull(response.getBody(), "Response body should be null"));
@@ -190,30 +283,34 @@ public class AccountsPayableControllerTest {
 		LocalDate startDate = LocalDate.of(2025, 1, 1);
 		LocalDate endDate = LocalDate.of(2025, 1, 31);
 		BigDecimal totalPaid = new BigDecimal("100.00");
-		when(accountPayableService.getAccountsPayableTotalPaid(startDate, endDate)).thenReturn(totalPaid);
+		when(accountPayableService.getAccountsPayableTotalPaid(startDate, endDate))
+				.thenReturn(new AccountsPayableTotals(totalPaid, 3L));
 		ResponseEntity<AccountsPayableTotalPaidResponseDto> response = controller.getAccountsPayableTotalPaid(startDate,
 				endDate);
 		AccountsPayableTotalPaidResponseDto dto = response.getBody();
 		assertAll("GetAccountsPayableTotalPaid Success", () -> assertNotNull(response, "Response should not be null"),
 				() -> assertEquals(HttpStatus.OK, response.getStatusCode(), "HTTP Status should be OK"),
 				() -> assertNotNull(dto, "DTO should not be null"),
-				() -> assertEquals(totalPaid, dto.getTotalPaid(), "Total paid does not match expected value"));
+				() -> assertEquals(totalPaid, dto.getTotalPaid(), "Total paid does not match expected value"),
+				() -> assertEquals(3L, dto.getCount(), "Count does not match expected value"));
 		verify(accountPayableService, times(1)).getAccountsPayableTotalPaid(startDate, endDate);
 	}
 
 	@Test
-	public void testGetAccountsPayableTotalPaid_NullTotal() {
+	public void testGetAccountsPayableTotalPaid_NoAccounts() {
 		LocalDate startDate = LocalDate.of(2025, 1, 1);
 		LocalDate endDate = LocalDate.of(2025, 1, 31);
-		when(accountPayableService.getAccountsPayableTotalPaid(startDate, endDate)).thenReturn(null);
+		when(accountPayableService.getAccountsPayableTotalPaid(startDate, endDate))
+				.thenReturn(new AccountsPayableTotals(null, null));
 		ResponseEntity<AccountsPayableTotalPaidResponseDto> response = controller.getAccountsPayableTotalPaid(startDate,
 				endDate);
 		AccountsPayableTotalPaidResponseDto dto = response.getBody();
-		assertAll("GetAccountsPayableTotalPaid Null Total",
+		assertAll("GetAccountsPayableTotalPaid No Accounts",
 				() -> assertNotNull(response, "Response should not be null"),
 				() -> assertEquals(HttpStatus.OK, response.getStatusCode(), "HTTP Status should be OK"),
 				() -> assertNotNull(dto, "DTO should not be null"),
-				() -> assertNull(dto.getTotalPaid(), "Total paid should be null"));
+				() -> assertEquals(BigDecimal.ZERO, dto.getTotalPaid(), "Total paid should be zero"),
+				() -> assertEquals(0L, dto.getCount(), "Count should be zero"));
 		verify(accountPayableService, times(1)).getAccountsPayableTotalPaid(startDate, endDate);
 	}
 
@@ -240,10 +337,10 @@ public class AccountsPayableControllerTest {
 		try (MockedStatic<AccountsPayableFactory> factoryMock = mockStatic(AccountsPayableFactory.class)) {
 			factoryMock.when(() -> AccountsPayableFactory.buildAccountsPayable(requestDto)).thenReturn(builtAccount);
 			when(accountPayableService.save(builtAccount)).thenReturn(savedAccount);
-			ResponseEntity<AccountsPayable> response = controller.createAccountsPayable(requestDto);
+			ResponseEntity<AccountsPayableResponseDto> response = controller.createAccountsPayable(requestDto);
 			assertAll("CreateAccountsPayable Success", () -> assertNotNull(response, "Response should not be null"),
 					() -> assertEquals(HttpStatus.CREATED, response.getStatusCode(), "HTTP Status should be CREATED"),
-					() -> assertEquals(savedAccount, response.getBody(),
+					() -> assertEquals(AccountsPayableResponseDto.from(savedAccount), response.getBody(),
 							"Saved account does not match expected account"));
 			factoryMock.verify(() -> AccountsPayableFactory.buildAccountsPayable(requestDto), times(1));
 			verify(accountPayableService, times(1)).save(builtAccount);
@@ -277,10 +374,10 @@ public class AccountsPayableControllerTest {
 		try (MockedStatic<AccountsPayableFactory> factoryMock = mockStatic(AccountsPayableFactory.class)) {
 			factoryMock.when(() -> AccountsPayableFactory.buildAccountsPayable(requestDto)).thenReturn(builtAccount);
 			when(accountPayableService.update(id, builtAccount)).thenReturn(updatedAccount);
-			ResponseEntity<AccountsPayable> response = controller.updateAccountsPayable(id, requestDto);
+			ResponseEntity<AccountsPayableResponseDto> response = controller.updateAccountsPayable(id, requestDto);
 			assertAll("UpdateAccountsPayable Success", () -> assertNotNull(response, "Response should not be null"),
 					() -> assertEquals(HttpStatus.OK, response.getStatusCode(), "HTTP Status should be OK"),
-					() -> assertEquals(updatedAccount, response.getBody(),
+					() -> assertEquals(AccountsPayableResponseDto.from(updatedAccount), response.getBody(),
 							"Updated account does not match expected account"));
 			factoryMock.verify(() -> AccountsPayableFactory.buildAccountsPayable(requestDto), times(1));
 			verify(accountPayableService, times(1)).update(id, builtAccount);
@@ -312,10 +409,10 @@ public class AccountsPayableControllerTest {
 		String status = "PAID";
 		AccountsPayable updatedAccount = createTestAccount();
 		when(accountPayableService.updateAccountsPayableStatus(id, status)).thenReturn(updatedAccount);
-		ResponseEntity<AccountsPayable> response = controller.updateAccountsPayableStatus(id, status);
+		ResponseEntity<AccountsPayableResponseDto> response = controller.updateAccountsPayableStatus(id, status);
 		assertAll("UpdateAccountsPayableStatus Success", () -> assertNotNull(response, "Response should not be null"),
 				() -> assertEquals(HttpStatus.OK, response.getStatusCode(), "HTTP Status should be OK"),
-				() -> assertEquals(updatedAccount, response.getBody(),
+				() -> assertEquals(AccountsPayableResponseDto.from(updatedAccount), response.getBody(),
 						"Updated account does not match expected account"));
 		verify(accountPayableService, times(1)).updateAccountsPayableStatus(id, status);
 	}
@@ -335,6 +432,19 @@ public class AccountsPayableControllerTest {
 		verify(accountPayableService, times(1)).updateAccountsPayableStatus(id, status);
 	}
 
+	@Test
+	public void testTransitionAccountsPayableStatus_Success() {
+		Long id = 1L;
+		AccountsPayable updatedAccount = createTestAccount();
+		when(accountPayableService.transitionAccountsPayableStatus(id, "PENDENTE", "PAGO")).thenReturn(updatedAccount);
+		ResponseEntity<AccountsPayableResponseDto> response = controller.transitionAccountsPayableStatus(id, "PENDENTE",
+				"PAGO");
+		assertAll("TransitionAccountsPayableStatus Success",
+				() -> assertEquals(HttpStatus.OK, response.getStatusCode(), "HTTP Status should be OK"),
+				() -> assertEquals(AccountsPayableResponseDto.from(updatedAccount), response.getBody(),
+						"Updated account does not match expected account"));
+	}
+
 	@Test
 	public void testUploadCsv_Success() {
 		MultipartFile file = mock(MultipartFile.class);
@@ -343,10 +453,11 @@ public class AccountsPayableControllerTest {
 		try (MockedConstruction<CsvParserService> mocked = mockConstruction(CsvParserService.class,
 				(mock, context) -> when(mock.parseCsv(file)).thenReturn(parsedList))) {
 			when(accountPayableService.save(parsedList)).thenReturn(savedList);
-			ResponseEntity<List<AccountsPayable>> response = controller.uploadCsv(file);
+			ResponseEntity<List<AccountsPayableResponseDto>> response = controller.uploadCsv(file);
 			assertAll("UploadCsv Success", () -> assertNotNull(response, "Response should not be null"),
 					() -> assertEquals(HttpStatus.OK, response.getStatusCode(), "HTTP Status should be OK"),
-					() -> assertEquals(savedList, response.getBody(), "Saved list does not match expected list"));
+					() -> assertEquals(savedList.stream().map(AccountsPayableResponseDto::from).toList(),
+							response.getBody(), "Saved list does not match expected list"));
 			verify(accountPayableService, times(1)).save(parsedList);
 		}
 	}
@@ -389,11 +500,270 @@ public class AccountsPayableControllerTest {
 		try (MockedConstruction<CsvParserService> mocked = mockConstruction(CsvParserService.class,
 				(mock, context) -> when(mock.parseCsv(file)).thenReturn(parsedList))) {
 			when(accountPayableService.save(parsedList)).thenReturn(savedList);
-			ResponseEntity<List<AccountsPayable>> response = controller.uploadCsv(file);
+			ResponseEntity<List<AccountsPayableResponseDto>> response = controller.uploadCsv(file);
 			assertAll("UploadCsv with Empty File", () -> assertNotNull(response, "Response should not be null"),
 					() -> assertEquals(HttpStatus.OK, response.getStatusCode(), "HTTP Status should be OK"),
-					() -> assertEquals(savedList, response.getBody(), "Response body should be an empty list"));
+					() -> assertEquals(List.of(), response.getBody(), "Response body should be an empty list"));
 			verify(accountPayableService, times(1)).save(parsedList);
 		}
 	}
+
+	@Test
+	public void testImportCsv_Success() {
+		MultipartFile file = mock(MultipartFile.class);
+		AccountsPayableImportSummaryResponseDto summary = new AccountsPayableImportSummaryResponseDto(10, 2, 1, 150);
+		when(accountsPayableImportService.importCsv(file, ImportEngine.JPA)).thenReturn(summary);
+		ResponseEntity<AccountsPayableImportSummaryResponseDto> response = controller.importCsv(file, ImportEngine.JPA);
+		assertResponse(HttpStatus.OK, summary, response);
+		verify(accountsPayableImportService, times(1)).importCsv(file, ImportEngine.JPA);
+		verifyNoInteractions(accountPayableService);
+	}
+
+	@Test
+	public void testImportCsv_ServiceThrowsException() {
+		MultipartFile file = mock(MultipartFile.class);
+		when(accountsPayableImportService.importCsv(file, ImportEngine.JPA)).thenThrow(new RuntimeException("Import error"));
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> controller.importCsv(file, ImportEngine.JPA),
+				"Expected exception was not thrown");
+		assertEquals("Import error", exception.getMessage());
+		verify(accountsPayableImportService, times(1)).importCsv(file, ImportEngine.JPA);
+	}
+
+	@Test
+	public void testSubmitCsv_Accepted() {
+		MultipartFile file = mock(MultipartFile.class);
+		ImportJob job = new ImportJob("contas.csv", ImportEngine.COPY);
+		when(accountsPayableImportService.submitCsv(file, ImportEngine.COPY)).thenReturn(job);
+		ResponseEntity<AccountsPayableImportJobResponseDto> response = controller.submitCsv(file, ImportEngine.COPY);
+		assertAll("SubmitCsv Accepted",
+				() -> assertEquals(HttpStatus.ACCEPTED, response.getStatusCode(), "HTTP Status should be ACCEPTED"),
+				() -> assertEquals(job.getId(), response.getBody().getJobId(), "Job id does not match"),
+				() -> assertEquals(ImportJobStatus.QUEUED, response.getBody().getStatus(), "Job should be queued"),
+				() -> assertEquals("/accountspayable/imports/" + job.getId(),
+						response.getHeaders().getLocation().toString(), "Location should point to the job"));
+	}
+
+	@Test
+	public void testGetImportJob_Success() {
+		ImportJob job = new ImportJob("contas.csv", ImportEngine.JPA);
+		job.start();
+		job.addProcessed(1000);
+		job.addFailed(3);
+		job.complete();
+		when(accountsPayableImportService.getImportJob(job.getId())).thenReturn(job);
+		ResponseEntity<AccountsPayableImportJobResponseDto> response = controller.getImportJob(job.getId());
+		assertAll("GetImportJob Success",
+				() -> assertEquals(HttpStatus.OK, response.getStatusCode(), "HTTP Status should be OK"),
+				() -> assertEquals(ImportJobStatus.COMPLETED, response.getBody().getStatus(), "Job should be completed"),
+				() -> assertEquals(1000, response.getBody().getRowsProcessed(), "Rows processed does not match"),
+				() -> assertEquals(3, response.getBody().getRowsFailed(), "Rows failed does not match"));
+	}
+
+	@Test
+	public void testInitiateUpload_Created() {
+		AccountsPayableUpload upload = new AccountsPayableUpload("contas.csv", "COPY");
+		when(accountsPayableUploadService.initiate("contas.csv", ImportEngine.COPY)).thenReturn(upload);
+		ResponseEntity<AccountsPayableUploadResponseDto> response = controller.initiateUpload("contas.csv",
+				ImportEngine.COPY);
+		assertAll("InitiateUpload Created",
+				() -> assertEquals(HttpStatus.CREATED, response.getStatusCode(), "HTTP Status should be CREATED"),
+				() -> assertEquals(upload.getId(), response.getBody().getUploadId(), "Upload id does not match"),
+				() -> assertEquals(ImportEngine.COPY, response.getBody().getEngine(), "Engine does not match"),
+				() -> assertEquals("/accountspayable/uploads/" + upload.getId(),
+						response.getHeaders().getLocation().toString(), "Location should point to the upload"));
+	}
+
+	@Test
+	public void testUploadPart_ReturnsReceivedParts() {
+		AccountsPayableUpload upload = new AccountsPayableUpload("contas.csv", "JPA");
+		InputStream content = new ByteArrayInputStream(new byte[] { 1, 2, 3 });
+		when(accountsPayableUploadService.storePart(upload.getId(), 2, content)).thenReturn(3L);
+		when(accountsPayableUploadService.getUpload(upload.getId())).thenReturn(upload);
+		when(accountsPayableUploadService.getReceivedParts(upload.getId())).thenReturn(List.of(1, 2));
+		ResponseEntity<AccountsPayableUploadResponseDto> response = controller.uploadPart(upload.getId(), 2, content);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(List.of(1, 2), response.getBody().getReceivedParts());
+	}
+
+	@Test
+	public void testGetUpload_ReportsCheckpointWithoutListingParts() {
+		AccountsPayableUpload upload = new AccountsPayableUpload("contas.csv", "COPY");
+		upload.setStatus(AccountsPayableUploadStatus.FAILED);
+		upload.setRecordNumber(40000);
+		upload.setRowsAccepted(39990);
+		when(accountsPayableUploadService.getUpload(upload.getId())).thenReturn(upload);
+		ResponseEntity<AccountsPayableUploadResponseDto> response = controller.getUpload(upload.getId());
+		assertAll("GetUpload",
+				() -> assertEquals(40000, response.getBody().getRecordsCommitted(), "Checkpoint does not match"),
+				() -> assertEquals(39990, response.getBody().getRowsAccepted(), "Rows accepted does not match"),
+				() -> assertTrue(response.getBody().getReceivedParts().isEmpty(), "Parts should not be listed"));
+		verify(accountsPayableUploadService, times(0)).getReceivedParts(upload.getId());
+	}
+
+	@Test
+	public void testCompleteUpload_Accepted() {
+		AccountsPayableUpload upload = new AccountsPayableUpload("contas.csv", "COPY");
+		upload.setStatus(AccountsPayableUploadStatus.IMPORTING);
+		when(accountsPayableUploadService.complete(upload.getId(), 8)).thenReturn(upload);
+		ResponseEntity<AccountsPayableUploadResponseDto> response = controller.completeUpload(upload.getId(), 8);
+		assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+		assertEquals(AccountsPayableUploadStatus.IMPORTING, response.getBody().getStatus());
+	}
+
+	@Test
+	public void testExportAccountsPayable_StreamsCsvAttachment() throws Exception {
+		LocalDate dueDate = LocalDate.of(2025, 1, 10);
+		ResponseEntity<StreamingResponseBody> response = controller.exportAccountsPayable(dueDate, "Aluguel",
+				ExportFormat.CSV);
+		assertAll("ExportAccountsPayable headers",
+				() -> assertEquals(HttpStatus.OK, response.getStatusCode(), "HTTP Status should be OK"),
+				() -> assertEquals(MediaType.parseMediaType("text/csv"), response.getHeaders().getContentType(),
+						"Unexpected content type"),
+				() -> assertEquals("attachment; filename=\"contas.csv\"",
+						response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION), "Unexpected disposition"));
+		verifyNoInteractions(accountsPayableExportService);
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		response.getBody().writeTo(output);
+		verify(accountsPayableExportService, times(1)).export(dueDate, "Aluguel", ExportFormat.CSV, output);
+	}
+
+	@Test
+	public void testSaveAccountsPayableBatch_SummarizesItems() {
+		List<AccountsPayableRequestDto> requests = List.of(new AccountsPayableRequestDto(),
+				new AccountsPayableRequestDto(), new AccountsPayableRequestDto());
+		List<AccountsPayableBatchItemResponseDto> items = List.of(
+				new AccountsPayableBatchItemResponseDto(0, 10L, AccountsPayableBatchItemStatus.CREATED, null),
+				new AccountsPayableBatchItemResponseDto(1, 5L, AccountsPayableBatchItemStatus.UPDATED, null),
+				AccountsPayableBatchItemResponseDto.failed(2, null, "A descrição é obrigatória."));
+		when(accountsPayableBatchService.saveAll(requests)).thenReturn(items);
+		ResponseEntity<AccountsPayableBatchResponseDto> response = controller.saveAccountsPayableBatch(requests);
+		assertResponse(HttpStatus.OK, new AccountsPayableBatchResponseDto(1, 1, 1, items), response);
+	}
+
+	@Test
+	public void testBulkUpdateStatus_ByIds() {
+		AccountsPayableBulkStatusRequestDto request = new AccountsPayableBulkStatusRequestDto();
+		request.setIds(List.of(1L, 2L, 3L));
+		request.setStatus("PAGO");
+		request.setPaymentDate(LocalDate.of(2025, 3, 1));
+		when(accountPayableService.updateAccountsPayableStatus(List.of(1L, 2L, 3L), "PAGO", LocalDate.of(2025, 3, 1)))
+				.thenReturn(3);
+		ResponseEntity<AccountsPayableBulkStatusResponseDto> response = controller.updateAccountsPayableStatus(request);
+		assertResponse(HttpStatus.OK, new AccountsPayableBulkStatusResponseDto(3), response);
+	}
+
+	@Test
+	public void testBulkUpdateStatus_ByFilter() {
+		AccountsPayableBulkStatusRequestDto request = new AccountsPayableBulkStatusRequestDto();
+		request.setStartDate(LocalDate.of(2025, 1, 1));
+		request.setEndDate(LocalDate.of(2025, 1, 31));
+		request.setCurrentStatus("PENDENTE");
+		request.setStatus("PAGO");
+		when(accountPayableService.updateAccountsPayableStatus(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31),
+				"PENDENTE", "PAGO", null)).thenReturn(50000);
+		ResponseEntity<AccountsPayableBulkStatusResponseDto> response = controller.updateAccountsPayableStatus(request);
+		assertResponse(HttpStatus.OK, new AccountsPayableBulkStatusResponseDto(50000), response);
+	}
+
+	@Test
+	public void testBulkUpdateStatus_RejectsStatusLongerThanColumn() {
+		AccountsPayableBulkStatusRequestDto request = new AccountsPayableBulkStatusRequestDto();
+		request.setIds(List.of(1L));
+		request.setStatus("P".repeat(51));
+		List<String> messages = Validation.buildDefaultValidatorFactory().getValidator().validate(request).stream()
+				.map(ConstraintViolation::getMessage).toList();
+		assertEquals(List.of("A situação da conta deve ter no máximo 50 caracteres."), messages);
+		request.setStatus("P".repeat(50));
+		assertTrue(Validation.buildDefaultValidatorFactory().getValidator().validate(request).isEmpty());
+	}
+
+	@Test
+	public void testCheckDailyTotals_Consistent() {
+		when(accountsPayableDailyTotalService.checkConsistency()).thenReturn(List.of());
+		ResponseEntity<AccountsPayableDailyTotalConsistencyResponseDto> response = controller.checkDailyTotals();
+		assertAll("CheckDailyTotals Consistent",
+				() -> assertEquals(HttpStatus.OK, response.getStatusCode(), "HTTP Status should be OK"),
+				() -> assertTrue(response.getBody().isConsistent(), "Daily totals should be consistent"),
+				() -> assertTrue(response.getBody().getMismatches().isEmpty(), "Mismatches should be empty"));
+	}
+
+	@Test
+	public void testRebuildDailyTotals_ReportsRepairedMismatches() {
+		AccountsPayableDailyTotalMismatch mismatch = new AccountsPayableDailyTotalMismatch() {
+			public LocalDate getDueDate() {
+				return LocalDate.of(2025, 1, 10);
+			}
+
+			public String getStatus() {
+				return "PAGO";
+			}
+
+			public BigDecimal getExpectedTotal() {
+				return new BigDecimal("150.00");
+			}
+
+			public Long getExpectedCount() {
+				return 2L;
+			}
+
+			public BigDecimal getActualTotal() {
+				return new BigDecimal("100.00");
+			}
+
+			public Long getActualCount() {
+				return 1L;
+			}
+		};
+		when(accountsPayableDailyTotalService.rebuild()).thenReturn(List.of(mismatch));
+		ResponseEntity<AccountsPayableDailyTotalConsistencyResponseDto> response = controller.rebuildDailyTotals();
+		assertAll("RebuildDailyTotals",
+				() -> assertEquals(HttpStatus.OK, response.getStatusCode(), "HTTP Status should be OK"),
+				() -> assertFalse(response.getBody().isConsistent(), "Daily totals should not be consistent"),
+				() -> assertEquals(1, response.getBody().getMismatches().size(), "Mismatch count does not match"),
+				() -> assertEquals(2L, response.getBody().getMismatches().get(0).getExpectedCount(),
+						"Expected count does not match"),
+				() -> assertEquals(new BigDecimal("100.00"), response.getBody().getMismatches().get(0).getActualTotal(),
+						"Actual total does not match"));
+	}
+
+	private AccountsPayableDashboardRow dashboardRow(String dimension, String bucket, String total, long count) {
+		return new AccountsPayableDashboardRow() {
+			public String getDimension() {
+				return dimension;
+			}
+
+			public String getBucket() {
+				return bucket;
+			}
+
+			public BigDecimal getTotal() {
+				return new BigDecimal(total);
+			}
+
+			public Long getCount() {
+				return count;
+			}
+		};
+	}
+
+	@Test
+	public void testGetAccountsPayableDashboard_GroupsRowsByDimension() {
+		LocalDate referenceDate = LocalDate.of(2025, 3, 1);
+		List<AccountsPayableDashboardRow> rows = List.of(dashboardRow("aging", "0-30", "50.00", 1),
+				dashboardRow("aging", "90+", "70.00", 2), dashboardRow("dueMonth", "2024-11", "70.00", 2),
+				dashboardRow("dueMonth", "2025-02", "150.00", 3), dashboardRow("status", "PAGO", "100.00", 2),
+				dashboardRow("status", "PENDENTE", "120.00", 3), dashboardRow("total", "total", "220.00", 5));
+		when(accountPayableService.getAccountsPayableDashboard(null, null, referenceDate)).thenReturn(rows);
+		ResponseEntity<AccountsPayableDashboardResponseDto> response = controller.getAccountsPayableDashboard(null,
+				null, referenceDate);
+		AccountsPayableDashboardResponseDto dashboard = response.getBody();
+		assertAll("GetAccountsPayableDashboard",
+				() -> assertEquals(HttpStatus.OK, response.getStatusCode(), "HTTP Status should be OK"),
+				() -> assertEquals(new BigDecimal("220.00"), dashboard.getTotal(), "Total does not match"),
+				() -> assertEquals(5, dashboard.getCount(), "Count does not match"),
+				() -> assertEquals(2, dashboard.getByStatus().size(), "Status buckets do not match"),
+				() -> assertEquals("2024-11", dashboard.getByDueMonth().get(0).getBucket(), "Month buckets do not match"),
+				() -> assertEquals("90+", dashboard.getByAging().get(1).getBucket(), "Aging buckets do not match"),
+				() -> assertEquals(referenceDate, dashboard.getReferenceDate(), "Reference date does not match"));
+	}
 }
\ No newline at end of file